@@ -0,0 +1,732 @@
+package com.github.mizool.technology.jcache.offheap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.Configuration;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.Duration;
+import javax.cache.expiry.ExpiryPolicy;
+import javax.cache.integration.CompletionListener;
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.EntryProcessorException;
+import javax.cache.processor.EntryProcessorResult;
+import javax.cache.processor.MutableEntry;
+
+import lombok.NonNull;
+
+import com.github.mizool.technology.jcache.codec.BinaryValueCodec;
+import com.github.mizool.technology.jcache.codec.ValueCodec;
+
+/**
+ * A cache storing its values in off-heap memory, so that they do not add to garbage collection pauses. Values are
+ * serialized with {@link BinaryValueCodec}, keys are kept on the heap by reference.<br>
+ * <br>
+ * The cache is split into independently locked {@link Segment segments}. Each segment evicts its least recently used
+ * entries once its share of the memory budget is exhausted. Expiry is handled according to the configured
+ * {@link ExpiryPolicy}. Values larger than the slab size are not stored. Entry listeners, loaders and writers are not
+ * supported.
+ *
+ * @see OffHeapSettings
+ */
+class OffHeapCache<K, V> implements Cache<K, V>
+{
+    private static final long ETERNAL = Long.MAX_VALUE;
+    private static final long UNCHANGED = -1;
+
+    private final String name;
+    private final OffHeapCacheManager cacheManager;
+    private final MutableConfiguration<K, V> configuration;
+    private final ExpiryPolicy expiryPolicy;
+    private final ValueCodec<V> valueCodec = new BinaryValueCodec<>();
+    private final Segment<K>[] segments;
+
+    private volatile boolean closed;
+
+    @SuppressWarnings("unchecked")
+    OffHeapCache(String name, OffHeapCacheManager cacheManager, MutableConfiguration<K, V> configuration)
+    {
+        this.name = name;
+        this.cacheManager = cacheManager;
+        this.configuration = configuration;
+        this.expiryPolicy = configuration.getExpiryPolicyFactory()
+            .create();
+
+        OffHeapSettings settings = OffHeapSettings.forCache(name);
+
+        // Generic arrays cannot be created directly, but the array never leaves this instance
+        segments = (Segment<K>[]) new Segment<?>[settings.getSegments()];
+        for (int i = 0; i < segments.length; i++)
+        {
+            segments[i] = new Segment<>(settings.getSlabSize(), settings.getSegmentBudget());
+        }
+    }
+
+    private Segment<K> segmentFor(K key)
+    {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[hash & (segments.length - 1)];
+    }
+
+    private <T> T locked(K key, Function<Segment<K>, T> action)
+    {
+        verifyOpen();
+        Objects.requireNonNull(key, "key");
+        Segment<K> segment = segmentFor(key);
+        segment.lock();
+        try
+        {
+            return action.apply(segment);
+        }
+        finally
+        {
+            segment.unlock();
+        }
+    }
+
+    private void verifyOpen()
+    {
+        if (closed)
+        {
+            throw new IllegalStateException("Cache " + name + " is closed");
+        }
+    }
+
+    private long expiresAt(Supplier<Duration> expiry, long now)
+    {
+        Duration duration;
+        try
+        {
+            duration = expiry.get();
+        }
+        catch (RuntimeException e)
+        {
+            duration = null;
+        }
+
+        if (duration == null)
+        {
+            return UNCHANGED;
+        }
+        if (duration.isEternal())
+        {
+            return ETERNAL;
+        }
+        if (duration.isZero())
+        {
+            return now;
+        }
+        return duration.getAdjustedTime(now);
+    }
+
+    private byte[] encode(V value)
+    {
+        return valueCodec.encode(Objects.requireNonNull(value, "value"));
+    }
+
+    private V decode(byte[] bytes)
+    {
+        if (bytes == null)
+        {
+            return null;
+        }
+        return valueCodec.decode(bytes);
+    }
+
+    private byte[] readAndTouch(Segment<K> segment, Segment.Slot<K> slot, long now)
+    {
+        byte[] result = segment.read(slot);
+        touch(segment, slot, expiresAt(expiryPolicy::getExpiryForAccess, now), now);
+        return result;
+    }
+
+    private void touch(Segment<K> segment, Segment.Slot<K> slot, long expiresAt, long now)
+    {
+        if (expiresAt == UNCHANGED)
+        {
+            expiresAt = slot.getExpiresAt();
+        }
+        if (expiresAt <= now)
+        {
+            segment.remove(slot);
+        }
+        else
+        {
+            segment.touch(slot, expiresAt);
+        }
+    }
+
+    /**
+     * Stores the value with the expiry for creation or update, depending on whether a live entry exists.
+     */
+    private void store(Segment<K> segment, Segment.Slot<K> existing, K key, byte[] bytes, long now)
+    {
+        long expiresAt;
+        if (existing == null)
+        {
+            expiresAt = expiresAt(expiryPolicy::getExpiryForCreation, now);
+            if (expiresAt == UNCHANGED)
+            {
+                expiresAt = ETERNAL;
+            }
+        }
+        else
+        {
+            expiresAt = expiresAt(expiryPolicy::getExpiryForUpdate, now);
+            if (expiresAt == UNCHANGED)
+            {
+                expiresAt = existing.getExpiresAt();
+            }
+        }
+
+        if (expiresAt <= now)
+        {
+            segment.remove(key);
+        }
+        else
+        {
+            segment.store(key, bytes, expiresAt);
+        }
+    }
+
+    @Override
+    public V get(K key)
+    {
+        return decode(locked(key, segment -> {
+            long now = System.currentTimeMillis();
+            Segment.Slot<K> slot = segment.find(key, now);
+            if (slot == null)
+            {
+                return null;
+            }
+            return readAndTouch(segment, slot, now);
+        }));
+    }
+
+    @Override
+    public Map<K, V> getAll(Set<? extends K> keys)
+    {
+        Map<K, V> result = new HashMap<>();
+        for (K key : keys)
+        {
+            V value = get(key);
+            if (value != null)
+            {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean containsKey(K key)
+    {
+        return locked(key, segment -> segment.find(key, System.currentTimeMillis()) != null);
+    }
+
+    @Override
+    public void loadAll(Set<? extends K> keys, boolean replaceExistingValues, CompletionListener completionListener)
+    {
+        // There is no loader, so there is nothing to load
+        if (completionListener != null)
+        {
+            completionListener.onCompletion();
+        }
+    }
+
+    @Override
+    public void put(K key, V value)
+    {
+        byte[] bytes = encode(value);
+        locked(key, segment -> {
+            long now = System.currentTimeMillis();
+            store(segment, segment.find(key, now), key, bytes, now);
+            return null;
+        });
+    }
+
+    @Override
+    public V getAndPut(K key, V value)
+    {
+        byte[] bytes = encode(value);
+        return decode(locked(key, segment -> {
+            long now = System.currentTimeMillis();
+            Segment.Slot<K> slot = segment.find(key, now);
+            byte[] previous = slot == null
+                ? null
+                : segment.read(slot);
+            store(segment, slot, key, bytes, now);
+            return previous;
+        }));
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        map.forEach(this::put);
+    }
+
+    @Override
+    public boolean putIfAbsent(K key, V value)
+    {
+        byte[] bytes = encode(value);
+        return locked(key, segment -> {
+            long now = System.currentTimeMillis();
+            if (segment.find(key, now) != null)
+            {
+                return false;
+            }
+            store(segment, null, key, bytes, now);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean remove(K key)
+    {
+        return locked(key, segment -> segment.find(key, System.currentTimeMillis()) != null && segment.remove(key));
+    }
+
+    @Override
+    public boolean remove(K key, V oldValue)
+    {
+        Objects.requireNonNull(oldValue, "oldValue");
+        return locked(key, segment -> {
+            long now = System.currentTimeMillis();
+            Segment.Slot<K> slot = segment.find(key, now);
+            if (slot == null)
+            {
+                return false;
+            }
+            if (oldValue.equals(decode(segment.read(slot))))
+            {
+                segment.remove(slot);
+                return true;
+            }
+            touch(segment, slot, expiresAt(expiryPolicy::getExpiryForAccess, now), now);
+            return false;
+        });
+    }
+
+    @Override
+    public V getAndRemove(K key)
+    {
+        return decode(locked(key, segment -> {
+            Segment.Slot<K> slot = segment.find(key, System.currentTimeMillis());
+            if (slot == null)
+            {
+                return null;
+            }
+            byte[] result = segment.read(slot);
+            segment.remove(slot);
+            return result;
+        }));
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue)
+    {
+        Objects.requireNonNull(oldValue, "oldValue");
+        byte[] bytes = encode(newValue);
+        return locked(key, segment -> {
+            long now = System.currentTimeMillis();
+            Segment.Slot<K> slot = segment.find(key, now);
+            if (slot == null)
+            {
+                return false;
+            }
+            if (oldValue.equals(decode(segment.read(slot))))
+            {
+                store(segment, slot, key, bytes, now);
+                return true;
+            }
+            touch(segment, slot, expiresAt(expiryPolicy::getExpiryForAccess, now), now);
+            return false;
+        });
+    }
+
+    @Override
+    public boolean replace(K key, V value)
+    {
+        byte[] bytes = encode(value);
+        return locked(key, segment -> {
+            long now = System.currentTimeMillis();
+            Segment.Slot<K> slot = segment.find(key, now);
+            if (slot == null)
+            {
+                return false;
+            }
+            store(segment, slot, key, bytes, now);
+            return true;
+        });
+    }
+
+    @Override
+    public V getAndReplace(K key, V value)
+    {
+        byte[] bytes = encode(value);
+        return decode(locked(key, segment -> {
+            long now = System.currentTimeMillis();
+            Segment.Slot<K> slot = segment.find(key, now);
+            if (slot == null)
+            {
+                return null;
+            }
+            byte[] previous = segment.read(slot);
+            store(segment, slot, key, bytes, now);
+            return previous;
+        }));
+    }
+
+    @Override
+    public void removeAll(Set<? extends K> keys)
+    {
+        keys.forEach(this::remove);
+    }
+
+    @Override
+    public void removeAll()
+    {
+        clear();
+    }
+
+    @Override
+    public void clear()
+    {
+        verifyOpen();
+        for (Segment<K> segment : segments)
+        {
+            segment.lock();
+            try
+            {
+                segment.clear();
+            }
+            finally
+            {
+                segment.unlock();
+            }
+        }
+    }
+
+    MutableConfiguration<K, V> getMutableConfiguration()
+    {
+        return configuration;
+    }
+
+    @Override
+    public <C extends Configuration<K, V>> C getConfiguration(Class<C> clazz)
+    {
+        if (clazz.isInstance(configuration))
+        {
+            return clazz.cast(configuration);
+        }
+        throw new IllegalArgumentException("Unsupported configuration class " + clazz.getName());
+    }
+
+    @Override
+    public <T> T invoke(K key, EntryProcessor<K, V, T> entryProcessor, Object... arguments)
+    {
+        Objects.requireNonNull(entryProcessor, "entryProcessor");
+        return locked(key, segment -> {
+            OffHeapMutableEntry entry = new OffHeapMutableEntry(segment, key, System.currentTimeMillis());
+            T result;
+            try
+            {
+                result = entryProcessor.process(entry, arguments);
+            }
+            catch (RuntimeException e)
+            {
+                throw new EntryProcessorException(e);
+            }
+            entry.apply();
+            return result;
+        });
+    }
+
+    @Override
+    public <T> Map<K, EntryProcessorResult<T>> invokeAll(
+        Set<? extends K> keys, EntryProcessor<K, V, T> entryProcessor, Object... arguments)
+    {
+        Map<K, EntryProcessorResult<T>> results = new HashMap<>();
+        for (K key : keys)
+        {
+            try
+            {
+                T result = invoke(key, entryProcessor, arguments);
+                if (result != null)
+                {
+                    results.put(key, () -> result);
+                }
+            }
+            catch (EntryProcessorException e)
+            {
+                results.put(key, () -> {
+                    throw e;
+                });
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public String getName()
+    {
+        return name;
+    }
+
+    @Override
+    public CacheManager getCacheManager()
+    {
+        return cacheManager;
+    }
+
+    @Override
+    public void close()
+    {
+        if (!closed)
+        {
+            clear();
+            closed = true;
+            cacheManager.onClose(this);
+        }
+    }
+
+    @Override
+    public boolean isClosed()
+    {
+        return closed;
+    }
+
+    @Override
+    public <T> T unwrap(@NonNull Class<T> clazz)
+    {
+        if (clazz.isInstance(this))
+        {
+            return clazz.cast(this);
+        }
+        throw new IllegalArgumentException("Cannot unwrap to " + clazz.getName());
+    }
+
+    @Override
+    public void registerCacheEntryListener(CacheEntryListenerConfiguration<K, V> cacheEntryListenerConfiguration)
+    {
+        throw new UnsupportedOperationException("Entry listeners are not supported by the off-heap cache");
+    }
+
+    @Override
+    public void deregisterCacheEntryListener(CacheEntryListenerConfiguration<K, V> cacheEntryListenerConfiguration)
+    {
+        throw new UnsupportedOperationException("Entry listeners are not supported by the off-heap cache");
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator()
+    {
+        verifyOpen();
+        List<K> keys = new ArrayList<>();
+        for (Segment<K> segment : segments)
+        {
+            segment.lock();
+            try
+            {
+                keys.addAll(segment.keys());
+            }
+            finally
+            {
+                segment.unlock();
+            }
+        }
+        return new EntryIterator(keys.iterator());
+    }
+
+    /**
+     * Iterates over a snapshot of the keys, skipping entries that have been removed or expired in the meantime.
+     */
+    private class EntryIterator implements Iterator<Entry<K, V>>
+    {
+        private final Iterator<K> keys;
+        private Entry<K, V> next;
+        private K current;
+
+        EntryIterator(Iterator<K> keys)
+        {
+            this.keys = keys;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            while (next == null && keys.hasNext())
+            {
+                K key = keys.next();
+                V value = get(key);
+                if (value != null)
+                {
+                    next = new SimpleEntry(key, value);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, V> next()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> result = next;
+            current = result.getKey();
+            next = null;
+            return result;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (current == null)
+            {
+                throw new IllegalStateException();
+            }
+            OffHeapCache.this.remove(current);
+            current = null;
+        }
+    }
+
+    private class SimpleEntry implements Entry<K, V>
+    {
+        private final K key;
+        private final V value;
+
+        SimpleEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey()
+        {
+            return key;
+        }
+
+        @Override
+        public V getValue()
+        {
+            return value;
+        }
+
+        @Override
+        public <T> T unwrap(@NonNull Class<T> clazz)
+        {
+            if (clazz.isInstance(this))
+            {
+                return clazz.cast(this);
+            }
+            throw new IllegalArgumentException("Cannot unwrap to " + clazz.getName());
+        }
+    }
+
+    /**
+     * Collects the changes of an entry processor, which are applied once it returns. Must only be used while holding
+     * the lock of the segment.
+     */
+    private class OffHeapMutableEntry implements MutableEntry<K, V>
+    {
+        private final Segment<K> segment;
+        private final K key;
+        private final long now;
+
+        private Segment.Slot<K> slot;
+        private V value;
+        private boolean loaded;
+        private boolean accessed;
+        private boolean modified;
+
+        OffHeapMutableEntry(Segment<K> segment, K key, long now)
+        {
+            this.segment = segment;
+            this.key = key;
+            this.now = now;
+            this.slot = segment.find(key, now);
+        }
+
+        @Override
+        public boolean exists()
+        {
+            return modified
+                ? value != null
+                : slot != null;
+        }
+
+        @Override
+        public void remove()
+        {
+            value = null;
+            modified = true;
+        }
+
+        @Override
+        public void setValue(V value)
+        {
+            this.value = Objects.requireNonNull(value, "value");
+            modified = true;
+        }
+
+        @Override
+        public K getKey()
+        {
+            return key;
+        }
+
+        @Override
+        public V getValue()
+        {
+            if (!modified && !loaded && slot != null)
+            {
+                value = decode(segment.read(slot));
+                loaded = true;
+                accessed = true;
+            }
+            return value;
+        }
+
+        @Override
+        public <T> T unwrap(@NonNull Class<T> clazz)
+        {
+            if (clazz.isInstance(this))
+            {
+                return clazz.cast(this);
+            }
+            throw new IllegalArgumentException("Cannot unwrap to " + clazz.getName());
+        }
+
+        void apply()
+        {
+            if (modified && value == null)
+            {
+                segment.remove(key);
+            }
+            else if (modified)
+            {
+                store(segment, slot, key, encode(value), now);
+            }
+            else if (accessed)
+            {
+                touch(segment, slot, expiresAt(expiryPolicy::getExpiryForAccess, now), now);
+            }
+        }
+    }
+}
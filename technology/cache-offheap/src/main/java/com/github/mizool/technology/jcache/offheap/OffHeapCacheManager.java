@@ -0,0 +1,211 @@
+package com.github.mizool.technology.jcache.offheap;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.cache.Cache;
+import javax.cache.CacheException;
+import javax.cache.CacheManager;
+import javax.cache.configuration.CompleteConfiguration;
+import javax.cache.configuration.Configuration;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.spi.CachingProvider;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+class OffHeapCacheManager implements CacheManager
+{
+    private final OffHeapCachingProvider cachingProvider;
+
+    private final URI uri;
+
+    private final ClassLoader classLoader;
+
+    @Getter
+    private final Properties properties;
+
+    private final Map<String, OffHeapCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    private volatile boolean closed;
+
+    OffHeapCacheManager(
+        OffHeapCachingProvider cachingProvider, URI uri, ClassLoader classLoader, Properties properties)
+    {
+        this.cachingProvider = cachingProvider;
+        this.uri = uri;
+        this.classLoader = classLoader;
+        this.properties = properties;
+    }
+
+    @Override
+    public CachingProvider getCachingProvider()
+    {
+        return cachingProvider;
+    }
+
+    @Override
+    public URI getURI()
+    {
+        return uri;
+    }
+
+    @Override
+    public ClassLoader getClassLoader()
+    {
+        return classLoader;
+    }
+
+    @Override
+    public <K, V, C extends Configuration<K, V>> Cache<K, V> createCache(
+        @NonNull String cacheName, @NonNull C configuration) throws IllegalArgumentException
+    {
+        verifyOpen();
+        MutableConfiguration<K, V> mutableConfiguration = toMutableConfiguration(configuration);
+        OffHeapCache<K, V> cache = new OffHeapCache<>(cacheName, this, mutableConfiguration);
+        if (caches.putIfAbsent(cacheName, cache) != null)
+        {
+            throw new CacheException("Cache " + cacheName + " already exists");
+        }
+        return cache;
+    }
+
+    private <K, V> MutableConfiguration<K, V> toMutableConfiguration(Configuration<K, V> configuration)
+    {
+        if (configuration instanceof CompleteConfiguration)
+        {
+            CompleteConfiguration<K, V> completeConfiguration = (CompleteConfiguration<K, V>) configuration;
+            if (completeConfiguration.isReadThrough() ||
+                completeConfiguration.isWriteThrough() ||
+                completeConfiguration.getCacheEntryListenerConfigurations()
+                    .iterator()
+                    .hasNext())
+            {
+                throw new IllegalArgumentException(
+                    "Read-through, write-through and entry listeners are not supported by the off-heap cache");
+            }
+            return new MutableConfiguration<>(completeConfiguration);
+        }
+        return new MutableConfiguration<K, V>().setTypes(configuration.getKeyType(), configuration.getValueType())
+            .setStoreByValue(configuration.isStoreByValue());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Cache<K, V> getCache(
+        @NonNull String cacheName, @NonNull Class<K> keyType, @NonNull Class<V> valueType)
+    {
+        verifyOpen();
+        OffHeapCache<?, ?> cache = caches.get(cacheName);
+        if (cache != null)
+        {
+            Configuration<?, ?> configuration = cache.getMutableConfiguration();
+            if (!configuration.getKeyType()
+                .equals(keyType) ||
+                !configuration.getValueType()
+                    .equals(valueType))
+            {
+                throw new ClassCastException("Cache " + cacheName + " has incompatible key or value types");
+            }
+        }
+
+        // The key and value types were verified above
+        return (Cache<K, V>) cache;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Cache<K, V> getCache(@NonNull String cacheName)
+    {
+        verifyOpen();
+        return (Cache<K, V>) caches.get(cacheName);
+    }
+
+    @Override
+    public Iterable<String> getCacheNames()
+    {
+        verifyOpen();
+        return Collections.unmodifiableSet(new HashSet<>(caches.keySet()));
+    }
+
+    @Override
+    public void destroyCache(@NonNull String cacheName)
+    {
+        verifyOpen();
+        OffHeapCache<?, ?> cache = caches.get(cacheName);
+        if (cache != null)
+        {
+            cache.close();
+        }
+    }
+
+    void onClose(OffHeapCache<?, ?> cache)
+    {
+        caches.remove(cache.getName(), cache);
+    }
+
+    @Override
+    public void enableManagement(@NonNull String cacheName, boolean enabled)
+    {
+        getExistingCache(cacheName).getMutableConfiguration()
+            .setManagementEnabled(enabled);
+    }
+
+    @Override
+    public void enableStatistics(@NonNull String cacheName, boolean enabled)
+    {
+        getExistingCache(cacheName).getMutableConfiguration()
+            .setStatisticsEnabled(enabled);
+    }
+
+    private OffHeapCache<?, ?> getExistingCache(String cacheName)
+    {
+        verifyOpen();
+        OffHeapCache<?, ?> cache = caches.get(cacheName);
+        if (cache == null)
+        {
+            throw new IllegalArgumentException("Cache " + cacheName + " does not exist");
+        }
+        return cache;
+    }
+
+    @Override
+    public void close()
+    {
+        if (!closed)
+        {
+            closed = true;
+            caches.values()
+                .forEach(OffHeapCache::close);
+            cachingProvider.onClose(this);
+        }
+    }
+
+    @Override
+    public boolean isClosed()
+    {
+        return closed;
+    }
+
+    @Override
+    public <T> T unwrap(@NonNull Class<T> clazz)
+    {
+        if (clazz.isInstance(this))
+        {
+            return clazz.cast(this);
+        }
+        throw new IllegalArgumentException("Cannot unwrap to " + clazz.getName());
+    }
+
+    private void verifyOpen()
+    {
+        if (closed)
+        {
+            throw new IllegalStateException("Cache manager is closed");
+        }
+    }
+}
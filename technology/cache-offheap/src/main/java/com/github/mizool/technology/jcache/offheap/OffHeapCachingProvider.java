@@ -0,0 +1,141 @@
+package com.github.mizool.technology.jcache.offheap;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.WeakHashMap;
+
+import javax.cache.CacheManager;
+import javax.cache.configuration.OptionalFeature;
+import javax.cache.spi.CachingProvider;
+
+import org.kohsuke.MetaInfServices;
+
+/**
+ * A JCache provider storing values outside the Java heap. To use it with {@code technology-cache}, set the system
+ * property {@code cache.provider} to the name of this class.
+ *
+ * @see OffHeapCache
+ * @see OffHeapSettings
+ */
+@MetaInfServices(CachingProvider.class)
+public class OffHeapCachingProvider implements CachingProvider
+{
+    private static final URI DEFAULT_URI = URI.create(OffHeapCachingProvider.class.getName());
+
+    private final Map<ClassLoader, Map<URI, OffHeapCacheManager>> cacheManagers = new WeakHashMap<>();
+
+    @Override
+    public synchronized CacheManager getCacheManager(URI uri, ClassLoader classLoader, Properties properties)
+    {
+        URI managerUri = uri == null
+            ? getDefaultURI()
+            : uri;
+        ClassLoader managerClassLoader = classLoader == null
+            ? getDefaultClassLoader()
+            : classLoader;
+        Properties managerProperties = properties == null
+            ? getDefaultProperties()
+            : properties;
+
+        return cacheManagers.computeIfAbsent(managerClassLoader, key -> new HashMap<>())
+            .computeIfAbsent(managerUri,
+                key -> new OffHeapCacheManager(this, managerUri, managerClassLoader, managerProperties));
+    }
+
+    @Override
+    public CacheManager getCacheManager(URI uri, ClassLoader classLoader)
+    {
+        return getCacheManager(uri, classLoader, getDefaultProperties());
+    }
+
+    @Override
+    public CacheManager getCacheManager()
+    {
+        return getCacheManager(getDefaultURI(), getDefaultClassLoader());
+    }
+
+    @Override
+    public ClassLoader getDefaultClassLoader()
+    {
+        ClassLoader contextClassLoader = Thread.currentThread()
+            .getContextClassLoader();
+        return contextClassLoader == null
+            ? getClass().getClassLoader()
+            : contextClassLoader;
+    }
+
+    @Override
+    public URI getDefaultURI()
+    {
+        return DEFAULT_URI;
+    }
+
+    @Override
+    public Properties getDefaultProperties()
+    {
+        return new Properties();
+    }
+
+    @Override
+    public void close()
+    {
+        for (OffHeapCacheManager cacheManager : snapshot(null, null))
+        {
+            cacheManager.close();
+        }
+    }
+
+    @Override
+    public void close(ClassLoader classLoader)
+    {
+        for (OffHeapCacheManager cacheManager : snapshot(classLoader, null))
+        {
+            cacheManager.close();
+        }
+    }
+
+    @Override
+    public void close(URI uri, ClassLoader classLoader)
+    {
+        for (OffHeapCacheManager cacheManager : snapshot(classLoader, uri))
+        {
+            cacheManager.close();
+        }
+    }
+
+    private synchronized List<OffHeapCacheManager> snapshot(ClassLoader classLoader, URI uri)
+    {
+        List<OffHeapCacheManager> result = new ArrayList<>();
+        cacheManagers.forEach((managerClassLoader, managers) -> {
+            if (classLoader == null || classLoader.equals(managerClassLoader))
+            {
+                managers.forEach((managerUri, manager) -> {
+                    if (uri == null || uri.equals(managerUri))
+                    {
+                        result.add(manager);
+                    }
+                });
+            }
+        });
+        return result;
+    }
+
+    synchronized void onClose(OffHeapCacheManager cacheManager)
+    {
+        Map<URI, OffHeapCacheManager> managers = cacheManagers.get(cacheManager.getClassLoader());
+        if (managers != null)
+        {
+            managers.remove(cacheManager.getURI(), cacheManager);
+        }
+    }
+
+    @Override
+    public boolean isSupported(OptionalFeature optionalFeature)
+    {
+        return false;
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.mizool.technology.jcache.offheap;
+
+import lombok.Value;
+
+import com.github.mizool.core.configuration.Config;
+import com.github.mizool.core.configuration.PropertyNode;
+
+/**
+ * Memory settings of a single off-heap cache, read from the following system properties:
+ * <ul>
+ * <li>{@code cache.offheap.maxBytes}: memory budget per cache, default 256 MiB. Can be overridden for a single cache
+ * with {@code cache.offheap.<cacheName>.maxBytes}.</li>
+ * <li>{@code cache.offheap.segments}: maximum number of independently locked segments per cache, default 16.</li>
+ * <li>{@code cache.offheap.slabSize}: size of the memory blocks allocated at once, default 1 MiB. This is also the
+ * maximum size of a single serialized value. Small budgets use fewer segments and smaller slabs.</li>
+ * </ul>
+ */
+@Value
+class OffHeapSettings
+{
+    private static final PropertyNode CONFIG = Config.systemProperties()
+        .child("cache.offheap");
+
+    private static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+    private static final int DEFAULT_SEGMENTS = 16;
+    private static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+    private static final int MIN_SLABS_PER_SEGMENT = 16;
+
+    int segments;
+    long segmentBudget;
+    int slabSize;
+
+    public static OffHeapSettings forCache(String cacheName)
+    {
+        long maxBytes = CONFIG.child(cacheName)
+            .child("maxBytes")
+            .longValue()
+            .read()
+            .orElseGet(() -> CONFIG.child("maxBytes")
+                .longValue()
+                .read()
+                .orElse(DEFAULT_MAX_BYTES));
+        int segments = Integer.highestOneBit(CONFIG.child("segments")
+            .intValue()
+            .read()
+            .orElse(DEFAULT_SEGMENTS));
+        int slabSize = Integer.highestOneBit(CONFIG.child("slabSize")
+            .intValue()
+            .read()
+            .orElse(DEFAULT_SLAB_SIZE));
+
+        /*
+         * Slabs are assigned to one size class at a time, so a segment needs a number of them to serve values of
+         * different sizes. For small budgets, we reduce the number of segments first and the slab size second.
+         */
+        long minimumSegmentBudget = (long) slabSize * MIN_SLABS_PER_SEGMENT;
+        segments = (int) Math.max(1, Math.min(segments, Long.highestOneBit(maxBytes / minimumSegmentBudget)));
+        long segmentBudget = maxBytes / segments;
+        if (segmentBudget < minimumSegmentBudget)
+        {
+            slabSize = (int) Math.max(SlabAllocator.MIN_CHUNK_SIZE,
+                Long.highestOneBit(segmentBudget / MIN_SLABS_PER_SEGMENT));
+        }
+        return new OffHeapSettings(segments, segmentBudget, slabSize);
+    }
+}
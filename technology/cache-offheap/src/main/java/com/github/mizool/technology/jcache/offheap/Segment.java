@@ -0,0 +1,226 @@
+package com.github.mizool.technology.jcache.offheap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One independently locked part of an {@link OffHeapCache}. Keys are indexed on the heap, while the serialized values
+ * are stored in the segment's {@link SlabAllocator}. Entries are kept in a doubly linked list in order of access,
+ * which is used for LRU eviction once the memory budget is exhausted.<br>
+ * <br>
+ * All methods except {@link #lock()} and {@link #unlock()} require the caller to hold the lock.
+ */
+class Segment<K>
+{
+    private static final int EVICTION_SCAN_LIMIT = 64;
+
+    static final class Slot<K>
+    {
+        private final K key;
+        private final long handle;
+        private final int length;
+        private long expiresAt;
+
+        private Slot<K> previous;
+        private Slot<K> next;
+
+        private Slot(K key, long handle, int length, long expiresAt)
+        {
+            this.key = key;
+            this.handle = handle;
+            this.length = length;
+            this.expiresAt = expiresAt;
+        }
+
+        public long getExpiresAt()
+        {
+            return expiresAt;
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, Slot<K>> index = new HashMap<>();
+    private final SlabAllocator allocator;
+
+    private Slot<K> leastRecentlyUsed;
+    private Slot<K> mostRecentlyUsed;
+
+    Segment(int slabSize, long budget)
+    {
+        allocator = new SlabAllocator(slabSize, budget);
+    }
+
+    public void lock()
+    {
+        lock.lock();
+    }
+
+    public void unlock()
+    {
+        lock.unlock();
+    }
+
+    /**
+     * Looks up the entry for the given key, removing it if it has expired.
+     *
+     * @return the entry, or {@code null} if there is no live entry
+     */
+    public Slot<K> find(K key, long now)
+    {
+        Slot<K> slot = index.get(key);
+        if (slot != null && slot.expiresAt <= now)
+        {
+            remove(slot);
+            return null;
+        }
+        return slot;
+    }
+
+    public byte[] read(Slot<K> slot)
+    {
+        return allocator.read(slot.handle, slot.length);
+    }
+
+    /**
+     * Marks the entry as used and sets a new expiry time.
+     */
+    public void touch(Slot<K> slot, long expiresAt)
+    {
+        slot.expiresAt = expiresAt;
+        unlink(slot);
+        link(slot);
+    }
+
+    /**
+     * Stores the given value, replacing any previous value for the key. If the memory budget does not allow storing
+     * the value, the key is removed instead.
+     *
+     * @return {@code true} if the value was stored
+     */
+    public boolean store(K key, byte[] bytes, long expiresAt)
+    {
+        remove(key);
+        if (bytes.length > allocator.getMaxEntrySize())
+        {
+            return false;
+        }
+
+        int sizeClass = allocator.sizeClass(bytes.length);
+        long handle = allocator.allocate(sizeClass);
+        while (handle == SlabAllocator.NO_MEMORY)
+        {
+            Slot<K> victim = findVictim(sizeClass);
+            if (victim == null)
+            {
+                return false;
+            }
+            remove(victim);
+            handle = allocator.allocate(sizeClass);
+        }
+
+        allocator.write(handle, bytes);
+        Slot<K> slot = new Slot<>(key, handle, bytes.length, expiresAt);
+        index.put(key, slot);
+        link(slot);
+        return true;
+    }
+
+    /**
+     * Prefers the least recently used entry of the same size class, as evicting it frees a suitable chunk right away.
+     * Otherwise, the least recently used entry is evicted, which eventually frees a whole slab.
+     */
+    private Slot<K> findVictim(int sizeClass)
+    {
+        Slot<K> candidate = leastRecentlyUsed;
+        for (int i = 0; candidate != null && i < EVICTION_SCAN_LIMIT; i++)
+        {
+            if (allocator.sizeClass(candidate.length) == sizeClass)
+            {
+                return candidate;
+            }
+            candidate = candidate.next;
+        }
+        return leastRecentlyUsed;
+    }
+
+    public boolean remove(K key)
+    {
+        Slot<K> slot = index.get(key);
+        if (slot == null)
+        {
+            return false;
+        }
+        remove(slot);
+        return true;
+    }
+
+    public void remove(Slot<K> slot)
+    {
+        index.remove(slot.key);
+        unlink(slot);
+        allocator.free(slot.handle);
+    }
+
+    public List<K> keys()
+    {
+        return new ArrayList<>(index.keySet());
+    }
+
+    public int size()
+    {
+        return index.size();
+    }
+
+    public long getAllocatedBytes()
+    {
+        return allocator.getAllocatedBytes();
+    }
+
+    public void clear()
+    {
+        index.clear();
+        leastRecentlyUsed = null;
+        mostRecentlyUsed = null;
+        allocator.clear();
+    }
+
+    private void link(Slot<K> slot)
+    {
+        slot.previous = mostRecentlyUsed;
+        slot.next = null;
+        if (mostRecentlyUsed != null)
+        {
+            mostRecentlyUsed.next = slot;
+        }
+        mostRecentlyUsed = slot;
+        if (leastRecentlyUsed == null)
+        {
+            leastRecentlyUsed = slot;
+        }
+    }
+
+    private void unlink(Slot<K> slot)
+    {
+        if (slot.previous != null)
+        {
+            slot.previous.next = slot.next;
+        }
+        else
+        {
+            leastRecentlyUsed = slot.next;
+        }
+        if (slot.next != null)
+        {
+            slot.next.previous = slot.previous;
+        }
+        else
+        {
+            mostRecentlyUsed = slot.previous;
+        }
+        slot.previous = null;
+        slot.next = null;
+    }
+}
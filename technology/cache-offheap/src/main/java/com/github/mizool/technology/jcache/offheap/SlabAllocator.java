@@ -0,0 +1,207 @@
+package com.github.mizool.technology.jcache.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Manages the off-heap memory of one segment. Memory is allocated in slabs of direct byte buffers. Each slab is split
+ * into chunks of a single size class (powers of two, starting at {@link #MIN_CHUNK_SIZE}). Once all chunks of a slab
+ * are freed, the slab can be reused for any size class.<br>
+ * <br>
+ * Chunks are referenced by handles combining the slab index and the offset inside the slab. This class is not thread
+ * safe; callers must hold the lock of the segment.
+ */
+class SlabAllocator
+{
+    public static final int MIN_CHUNK_SIZE = 64;
+    public static final long NO_MEMORY = -1;
+
+    private static final int MIN_CHUNK_SHIFT = Integer.numberOfTrailingZeros(MIN_CHUNK_SIZE);
+
+    private static final class LongStack
+    {
+        private long[] values = new long[16];
+        private int size;
+
+        void push(long value)
+        {
+            if (size == values.length)
+            {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long pop()
+        {
+            return values[--size];
+        }
+
+        boolean isEmpty()
+        {
+            return size == 0;
+        }
+
+        void removeSlab(int slab)
+        {
+            int kept = 0;
+            for (int i = 0; i < size; i++)
+            {
+                if (slabOf(values[i]) != slab)
+                {
+                    values[kept++] = values[i];
+                }
+            }
+            size = kept;
+        }
+    }
+
+    private final int slabSize;
+    private final int maxSlabs;
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    private final List<Integer> slabSizeClasses = new ArrayList<>();
+    private final List<Integer> usedChunks = new ArrayList<>();
+    private final Deque<Integer> spareSlabs = new ArrayDeque<>();
+    private final LongStack[] freeChunks;
+
+    SlabAllocator(int slabSize, long budget)
+    {
+        this.slabSize = slabSize;
+        this.maxSlabs = (int) Math.max(1, budget / slabSize);
+        this.freeChunks = new LongStack[sizeClass(slabSize) + 1];
+        for (int i = 0; i < freeChunks.length; i++)
+        {
+            freeChunks[i] = new LongStack();
+        }
+    }
+
+    public int getMaxEntrySize()
+    {
+        return slabSize;
+    }
+
+    public long getAllocatedBytes()
+    {
+        return (long) slabs.size() * slabSize;
+    }
+
+    public int sizeClass(int length)
+    {
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, Integer.highestOneBit(Math.max(1, length - 1)) << 1);
+        return Integer.numberOfTrailingZeros(chunkSize) - MIN_CHUNK_SHIFT;
+    }
+
+    /**
+     * @return the chunk handle, or {@link #NO_MEMORY} if the budget is exhausted and no chunk of the size class is
+     * free.
+     */
+    public long allocate(int sizeClass)
+    {
+        LongStack stack = freeChunks[sizeClass];
+        if (stack.isEmpty() && !assignSlab(sizeClass))
+        {
+            return NO_MEMORY;
+        }
+
+        long handle = stack.pop();
+        int slab = slabOf(handle);
+        usedChunks.set(slab, usedChunks.get(slab) + 1);
+        return handle;
+    }
+
+    private boolean assignSlab(int sizeClass)
+    {
+        Integer slab = spareSlabs.poll();
+        if (slab == null)
+        {
+            if (slabs.size() >= maxSlabs)
+            {
+                return false;
+            }
+            slab = slabs.size();
+            slabs.add(ByteBuffer.allocateDirect(slabSize));
+            slabSizeClasses.add(sizeClass);
+            usedChunks.add(0);
+        }
+        slabSizeClasses.set(slab, sizeClass);
+
+        int chunkSize = chunkSize(sizeClass);
+        LongStack stack = freeChunks[sizeClass];
+        for (int offset = slabSize - chunkSize; offset >= 0; offset -= chunkSize)
+        {
+            stack.push(handle(slab, offset));
+        }
+        return true;
+    }
+
+    public void free(long handle)
+    {
+        int slab = slabOf(handle);
+        int sizeClass = slabSizeClasses.get(slab);
+        int used = usedChunks.get(slab) - 1;
+        usedChunks.set(slab, used);
+
+        if (used == 0)
+        {
+            freeChunks[sizeClass].removeSlab(slab);
+            spareSlabs.push(slab);
+        }
+        else
+        {
+            freeChunks[sizeClass].push(handle);
+        }
+    }
+
+    public void write(long handle, byte[] bytes)
+    {
+        slabs.get(slabOf(handle))
+            .put(offsetOf(handle), bytes);
+    }
+
+    public byte[] read(long handle, int length)
+    {
+        byte[] result = new byte[length];
+        slabs.get(slabOf(handle))
+            .get(offsetOf(handle), result);
+        return result;
+    }
+
+    /**
+     * Drops all slabs. The memory is released once the buffers are garbage collected.
+     */
+    public void clear()
+    {
+        slabs.clear();
+        slabSizeClasses.clear();
+        usedChunks.clear();
+        spareSlabs.clear();
+        for (int i = 0; i < freeChunks.length; i++)
+        {
+            freeChunks[i] = new LongStack();
+        }
+    }
+
+    private static int chunkSize(int sizeClass)
+    {
+        return MIN_CHUNK_SIZE << sizeClass;
+    }
+
+    private static long handle(int slab, int offset)
+    {
+        return ((long) slab << 32) | offset;
+    }
+
+    private static int slabOf(long handle)
+    {
+        return (int) (handle >>> 32);
+    }
+
+    private static int offsetOf(long handle)
+    {
+        return (int) handle;
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.mizool.technology.jcache.offheap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import javax.cache.expiry.ExpiryPolicy;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class TestOffHeapCache
+{
+    public static class ReadOnceExpiryPolicy implements ExpiryPolicy
+    {
+        @Override
+        public Duration getExpiryForCreation()
+        {
+            return Duration.ETERNAL;
+        }
+
+        @Override
+        public Duration getExpiryForAccess()
+        {
+            return Duration.ZERO;
+        }
+
+        @Override
+        public Duration getExpiryForUpdate()
+        {
+            return null;
+        }
+    }
+
+    private CacheManager cacheManager;
+
+    @BeforeMethod
+    public void setUp()
+    {
+        cacheManager = new OffHeapCachingProvider().getCacheManager();
+    }
+
+    @AfterMethod
+    public void tearDown()
+    {
+        cacheManager.close();
+    }
+
+    @Test
+    public void testPutAndGet()
+    {
+        Cache<String, String> cache = cacheManager.createCache("values",
+            new MutableConfiguration<String, String>().setTypes(String.class, String.class));
+
+        cache.put("a", "value");
+
+        assertThat(cache.get("a")).isEqualTo("value");
+        assertThat(cache.get("b")).isNull();
+    }
+
+    @Test
+    public void testExpiryForCreation()
+    {
+        Cache<String, String> cache = cacheManager.createCache("created",
+            new MutableConfiguration<String, String>().setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(
+                Duration.ZERO)));
+
+        cache.put("a", "value");
+
+        assertThat(cache.containsKey("a")).isFalse();
+    }
+
+    @Test
+    public void testExpiryForAccess()
+    {
+        Cache<String, String> cache = cacheManager.createCache("accessed",
+            new MutableConfiguration<String, String>().setExpiryPolicyFactory(FactoryBuilder.factoryOf(
+                ReadOnceExpiryPolicy.class)));
+
+        cache.put("a", "value");
+
+        assertThat(cache.get("a")).isEqualTo("value");
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    public void testGetCacheWithIncompatibleTypes()
+    {
+        cacheManager.createCache("typed",
+            new MutableConfiguration<String, String>().setTypes(String.class, String.class));
+
+        assertThat(cacheManager.getCache("typed", String.class, String.class)).isNotNull();
+        assertThatThrownBy(() -> cacheManager.getCache("typed", String.class, Integer.class)).isInstanceOf(
+            ClassCastException.class);
+    }
+
+    @Test
+    public void testEnableStatistics()
+    {
+        Cache<String, String> cache = cacheManager.createCache("statistics",
+            new MutableConfiguration<String, String>());
+
+        cacheManager.enableStatistics("statistics", true);
+
+        assertThat(((OffHeapCache<?, ?>) cache).getMutableConfiguration()
+            .isStatisticsEnabled()).isTrue();
+    }
+
+    @Test
+    public void testEnableStatisticsForUnknownCache()
+    {
+        assertThatThrownBy(() -> cacheManager.enableStatistics("unknown", true)).isInstanceOf(
+            IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.mizool.technology.jcache.offheap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+public class TestSegment
+{
+    private static final int SLAB_SIZE = 256;
+    private static final long ETERNAL = Long.MAX_VALUE;
+
+    @Test
+    public void testStoreAndRead()
+    {
+        Segment<String> segment = new Segment<>(SLAB_SIZE, SLAB_SIZE);
+        byte[] value = { 1, 2, 3 };
+
+        assertThat(segment.store("a", value, ETERNAL)).isTrue();
+
+        assertThat(segment.read(segment.find("a", 0))).isEqualTo(value);
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed()
+    {
+        // The budget holds four chunks of the smallest size class
+        Segment<String> segment = new Segment<>(SLAB_SIZE, SLAB_SIZE);
+        for (String key : new String[]{ "a", "b", "c", "d" })
+        {
+            segment.store(key, new byte[10], ETERNAL);
+        }
+        segment.touch(segment.find("a", 0), ETERNAL);
+
+        assertThat(segment.store("e", new byte[10], ETERNAL)).isTrue();
+
+        assertThat(segment.keys()).containsExactlyInAnyOrder("a", "c", "d", "e");
+    }
+
+    @Test
+    public void testEvictsToFreeSlabForOtherSizeClass()
+    {
+        Segment<String> segment = new Segment<>(SLAB_SIZE, SLAB_SIZE);
+        segment.store("a", new byte[10], ETERNAL);
+        segment.store("b", new byte[10], ETERNAL);
+
+        assertThat(segment.store("c", new byte[SLAB_SIZE], ETERNAL)).isTrue();
+
+        assertThat(segment.keys()).containsExactly("c");
+    }
+
+    @Test
+    public void testExpiry()
+    {
+        Segment<String> segment = new Segment<>(SLAB_SIZE, SLAB_SIZE);
+        segment.store("a", new byte[10], 100);
+
+        assertThat(segment.find("a", 99)).isNotNull();
+        assertThat(segment.find("a", 100)).isNull();
+        assertThat(segment.size()).isZero();
+    }
+
+    @Test
+    public void testRejectsOversizedValue()
+    {
+        Segment<String> segment = new Segment<>(SLAB_SIZE, SLAB_SIZE);
+        segment.store("a", new byte[10], ETERNAL);
+
+        assertThat(segment.store("a", new byte[SLAB_SIZE + 1], ETERNAL)).isFalse();
+
+        assertThat(segment.size()).isZero();
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.mizool.technology.jcache.offheap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+public class TestSlabAllocator
+{
+    private static final int SLAB_SIZE = 256;
+
+    @Test
+    public void testSizeClass()
+    {
+        SlabAllocator allocator = new SlabAllocator(SLAB_SIZE, SLAB_SIZE);
+
+        assertThat(allocator.sizeClass(1)).isZero();
+        assertThat(allocator.sizeClass(64)).isZero();
+        assertThat(allocator.sizeClass(65)).isEqualTo(1);
+        assertThat(allocator.sizeClass(128)).isEqualTo(1);
+        assertThat(allocator.sizeClass(256)).isEqualTo(2);
+    }
+
+    @Test
+    public void testWriteAndRead()
+    {
+        SlabAllocator allocator = new SlabAllocator(SLAB_SIZE, SLAB_SIZE);
+        byte[] first = { 1, 2, 3 };
+        byte[] second = { 4, 5, 6, 7 };
+
+        long firstHandle = allocator.allocate(allocator.sizeClass(first.length));
+        long secondHandle = allocator.allocate(allocator.sizeClass(second.length));
+        allocator.write(firstHandle, first);
+        allocator.write(secondHandle, second);
+
+        assertThat(firstHandle).isNotEqualTo(secondHandle);
+        assertThat(allocator.read(firstHandle, first.length)).isEqualTo(first);
+        assertThat(allocator.read(secondHandle, second.length)).isEqualTo(second);
+    }
+
+    @Test
+    public void testBudgetExhausted()
+    {
+        SlabAllocator allocator = new SlabAllocator(SLAB_SIZE, 2 * SLAB_SIZE);
+        int sizeClass = allocator.sizeClass(SLAB_SIZE);
+
+        long first = allocator.allocate(sizeClass);
+        long second = allocator.allocate(sizeClass);
+
+        assertThat(first).isNotEqualTo(SlabAllocator.NO_MEMORY);
+        assertThat(second).isNotEqualTo(SlabAllocator.NO_MEMORY);
+        assertThat(allocator.allocate(sizeClass)).isEqualTo(SlabAllocator.NO_MEMORY);
+        assertThat(allocator.getAllocatedBytes()).isEqualTo(2 * SLAB_SIZE);
+
+        allocator.free(first);
+
+        assertThat(allocator.allocate(sizeClass)).isNotEqualTo(SlabAllocator.NO_MEMORY);
+    }
+
+    @Test
+    public void testFreedSlabReusedForOtherSizeClass()
+    {
+        SlabAllocator allocator = new SlabAllocator(SLAB_SIZE, SLAB_SIZE);
+        int smallSizeClass = allocator.sizeClass(1);
+        int largeSizeClass = allocator.sizeClass(SLAB_SIZE);
+
+        long small = allocator.allocate(smallSizeClass);
+        assertThat(allocator.allocate(largeSizeClass)).isEqualTo(SlabAllocator.NO_MEMORY);
+
+        allocator.free(small);
+
+        assertThat(allocator.allocate(largeSizeClass)).isNotEqualTo(SlabAllocator.NO_MEMORY);
+        assertThat(allocator.allocate(smallSizeClass)).isEqualTo(SlabAllocator.NO_MEMORY);
+    }
+}
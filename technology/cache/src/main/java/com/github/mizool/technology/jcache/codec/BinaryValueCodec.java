@@ -0,0 +1,127 @@
+package com.github.mizool.technology.jcache.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Stores strings, byte arrays, longs, integers and booleans in a compact binary form, prefixed by a single type byte.
+ * Other values are stored using Java serialization.
+ */
+public class BinaryValueCodec<V> implements ValueCodec<V>
+{
+    private static final byte STRING = 1;
+    private static final byte BYTES = 2;
+    private static final byte LONG = 3;
+    private static final byte INTEGER = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte SERIALIZED = 9;
+
+    @Override
+    public byte[] encode(V value)
+    {
+        if (value instanceof String)
+        {
+            return tagged(STRING, ((String) value).getBytes(StandardCharsets.UTF_8));
+        }
+        if (value instanceof byte[])
+        {
+            return tagged(BYTES, (byte[]) value);
+        }
+        if (value instanceof Long)
+        {
+            return ByteBuffer.allocate(1 + Long.BYTES)
+                .put(LONG)
+                .putLong((Long) value)
+                .array();
+        }
+        if (value instanceof Integer)
+        {
+            return ByteBuffer.allocate(1 + Integer.BYTES)
+                .put(INTEGER)
+                .putInt((Integer) value)
+                .array();
+        }
+        if (value instanceof Boolean)
+        {
+            byte booleanByte = (byte) ((Boolean) value
+                ? 1
+                : 0);
+            return new byte[]{ BOOLEAN, booleanByte };
+        }
+        return tagged(SERIALIZED, serialize(value));
+    }
+
+    private byte[] tagged(byte tag, byte[] payload)
+    {
+        byte[] result = new byte[payload.length + 1];
+        result[0] = tag;
+        System.arraycopy(payload, 0, result, 1, payload.length);
+        return result;
+    }
+
+    private byte[] serialize(V value)
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes))
+        {
+            out.writeObject(value);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V decode(byte[] bytes)
+    {
+        return (V) decodeObject(bytes);
+    }
+
+    private Object decodeObject(byte[] bytes)
+    {
+        ByteBuffer payload = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+        switch (bytes[0])
+        {
+            case STRING:
+                return new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+            case BYTES:
+                return Arrays.copyOfRange(bytes, 1, bytes.length);
+            case LONG:
+                return payload.getLong();
+            case INTEGER:
+                return payload.getInt();
+            case BOOLEAN:
+                return bytes[1] != 0;
+            case SERIALIZED:
+                return deserialize(bytes);
+            default:
+                throw new IllegalArgumentException("Unknown value type " + bytes[0]);
+        }
+    }
+
+    private Object deserialize(byte[] bytes)
+    {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1)))
+        {
+            return in.readObject();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        catch (ClassNotFoundException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package com.github.mizool.technology.jcache.codec;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.CompleteConfiguration;
+import javax.cache.configuration.Configuration;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.integration.CompletionListener;
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.EntryProcessorResult;
+import javax.cache.processor.MutableEntry;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Encodes values with a {@link ValueCodec} before handing them to the target cache, which stores byte arrays.<br>
+ * <br>
+ * Operations that compare values ({@link #remove(Object, Object)}, {@link #replace(Object, Object, Object)}) compare
+ * the encoded values atomically in the target cache, so they require a codec that encodes equal values to identical
+ * bytes. Entry processors are wrapped to see the decoded values, which requires the target cache to run them in the
+ * calling JVM. Entry listeners are not supported, as the target cache only knows the encoded values.
+ */
+@RequiredArgsConstructor
+class CodecCache<K, V> implements Cache<K, V>
+{
+    @RequiredArgsConstructor
+    private class DecodingEntry implements Entry<K, V>
+    {
+        private final Entry<K, byte[]> target;
+
+        @Override
+        public K getKey()
+        {
+            return target.getKey();
+        }
+
+        @Override
+        public V getValue()
+        {
+            return decode(target.getValue());
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> clazz)
+        {
+            return target.unwrap(clazz);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private class DecodingMutableEntry implements MutableEntry<K, V>
+    {
+        private final MutableEntry<K, byte[]> target;
+
+        @Override
+        public boolean exists()
+        {
+            return target.exists();
+        }
+
+        @Override
+        public void remove()
+        {
+            target.remove();
+        }
+
+        @Override
+        public void setValue(V value)
+        {
+            target.setValue(encode(value));
+        }
+
+        @Override
+        public K getKey()
+        {
+            return target.getKey();
+        }
+
+        @Override
+        public V getValue()
+        {
+            return decode(target.getValue());
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> clazz)
+        {
+            return target.unwrap(clazz);
+        }
+    }
+
+    /**
+     * Removes the entry if its value equals the encoded value given as the only argument.
+     */
+    private static class ConditionalRemove<K> implements EntryProcessor<K, byte[], Boolean>, Serializable
+    {
+        @Override
+        public Boolean process(MutableEntry<K, byte[]> entry, Object... arguments)
+        {
+            if (entry.exists() && Arrays.equals(entry.getValue(), (byte[]) arguments[0]))
+            {
+                entry.remove();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Replaces the value of the entry with the second argument if it equals the first one, both given encoded.
+     */
+    private static class ConditionalReplace<K> implements EntryProcessor<K, byte[], Boolean>, Serializable
+    {
+        @Override
+        public Boolean process(MutableEntry<K, byte[]> entry, Object... arguments)
+        {
+            if (entry.exists() && Arrays.equals(entry.getValue(), (byte[]) arguments[0]))
+            {
+                entry.setValue((byte[]) arguments[1]);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    @NonNull
+    private final Cache<K, byte[]> target;
+
+    @NonNull
+    private final ValueCodec<V> valueCodec;
+
+    @NonNull
+    private final Class<V> valueType;
+
+    @NonNull
+    private final CodecStatistics statistics;
+
+    private byte[] encode(V value)
+    {
+        if (value == null)
+        {
+            throw new NullPointerException("value");
+        }
+        byte[] result = valueCodec.encode(value);
+        statistics.onWrite(result);
+        return result;
+    }
+
+    /**
+     * Encodes a value for comparison only, so it is not counted as a write.
+     */
+    private byte[] encodeExpected(V value)
+    {
+        if (value == null)
+        {
+            throw new NullPointerException("oldValue");
+        }
+        return valueCodec.encode(value);
+    }
+
+    private V decode(byte[] bytes)
+    {
+        if (bytes == null)
+        {
+            return null;
+        }
+        statistics.onRead(bytes);
+        return valueCodec.decode(bytes);
+    }
+
+    @Override
+    public V get(K key)
+    {
+        return decode(target.get(key));
+    }
+
+    @Override
+    public Map<K, V> getAll(Set<? extends K> keys)
+    {
+        Map<K, V> result = new LinkedHashMap<>();
+        target.getAll(keys)
+            .forEach((key, bytes) -> result.put(key, decode(bytes)));
+        return result;
+    }
+
+    @Override
+    public boolean containsKey(K key)
+    {
+        return target.containsKey(key);
+    }
+
+    @Override
+    public void loadAll(Set<? extends K> keys, boolean replaceExistingValues, CompletionListener completionListener)
+    {
+        target.loadAll(keys, replaceExistingValues, completionListener);
+    }
+
+    @Override
+    public void put(K key, V value)
+    {
+        target.put(key, encode(value));
+    }
+
+    @Override
+    public V getAndPut(K key, V value)
+    {
+        return decode(target.getAndPut(key, encode(value)));
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        Map<K, byte[]> encoded = new LinkedHashMap<>();
+        map.forEach((key, value) -> encoded.put(key, encode(value)));
+        target.putAll(encoded);
+    }
+
+    @Override
+    public boolean putIfAbsent(K key, V value)
+    {
+        return target.putIfAbsent(key, encode(value));
+    }
+
+    @Override
+    public boolean remove(K key)
+    {
+        return target.remove(key);
+    }
+
+    @Override
+    public boolean remove(K key, V oldValue)
+    {
+        return target.invoke(key, new ConditionalRemove<>(), (Object) encodeExpected(oldValue));
+    }
+
+    @Override
+    public V getAndRemove(K key)
+    {
+        return decode(target.getAndRemove(key));
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue)
+    {
+        return target.invoke(key, new ConditionalReplace<>(), encodeExpected(oldValue), encode(newValue));
+    }
+
+    @Override
+    public boolean replace(K key, V value)
+    {
+        return target.replace(key, encode(value));
+    }
+
+    @Override
+    public V getAndReplace(K key, V value)
+    {
+        return decode(target.getAndReplace(key, encode(value)));
+    }
+
+    @Override
+    public void removeAll(Set<? extends K> keys)
+    {
+        target.removeAll(keys);
+    }
+
+    @Override
+    public void removeAll()
+    {
+        target.removeAll();
+    }
+
+    @Override
+    public void clear()
+    {
+        target.clear();
+    }
+
+    /**
+     * Describes the decoded values, with the settings of the target cache. Supports {@link Configuration},
+     * {@link CompleteConfiguration} and {@link MutableConfiguration}.
+     */
+    @Override
+    public <C extends Configuration<K, V>> C getConfiguration(Class<C> clazz)
+    {
+        CompleteConfiguration<K, byte[]> encoded = target.getConfiguration(encodedConfigurationClass());
+        MutableConfiguration<K, V> result = new MutableConfiguration<K, V>().setTypes(encoded.getKeyType(), valueType)
+            .setStoreByValue(encoded.isStoreByValue())
+            .setExpiryPolicyFactory(encoded.getExpiryPolicyFactory())
+            .setManagementEnabled(encoded.isManagementEnabled())
+            .setStatisticsEnabled(encoded.isStatisticsEnabled());
+        if (!clazz.isInstance(result))
+        {
+            throw new IllegalArgumentException("Unsupported configuration class " + clazz.getName());
+        }
+        return clazz.cast(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<CompleteConfiguration<K, byte[]>> encodedConfigurationClass()
+    {
+        // Class literals cannot carry type arguments
+        return (Class<CompleteConfiguration<K, byte[]>>) (Class<?>) CompleteConfiguration.class;
+    }
+
+    @Override
+    public <T> T invoke(K key, @NonNull EntryProcessor<K, V, T> entryProcessor, Object... arguments)
+    {
+        return target.invoke(key, decoding(entryProcessor), arguments);
+    }
+
+    @Override
+    public <T> Map<K, EntryProcessorResult<T>> invokeAll(
+        Set<? extends K> keys, @NonNull EntryProcessor<K, V, T> entryProcessor, Object... arguments)
+    {
+        return target.invokeAll(keys, decoding(entryProcessor), arguments);
+    }
+
+    private <T> EntryProcessor<K, byte[], T> decoding(EntryProcessor<K, V, T> entryProcessor)
+    {
+        return (entry, arguments) -> entryProcessor.process(new DecodingMutableEntry(entry), arguments);
+    }
+
+    @Override
+    public String getName()
+    {
+        return target.getName();
+    }
+
+    @Override
+    public CacheManager getCacheManager()
+    {
+        return target.getCacheManager();
+    }
+
+    @Override
+    public void close()
+    {
+        target.close();
+    }
+
+    @Override
+    public boolean isClosed()
+    {
+        return target.isClosed();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> clazz)
+    {
+        if (clazz.isInstance(this))
+        {
+            return clazz.cast(this);
+        }
+        return target.unwrap(clazz);
+    }
+
+    @Override
+    public void registerCacheEntryListener(CacheEntryListenerConfiguration<K, V> cacheEntryListenerConfiguration)
+    {
+        throw new UnsupportedOperationException("Entry listeners are not supported with value codecs");
+    }
+
+    @Override
+    public void deregisterCacheEntryListener(CacheEntryListenerConfiguration<K, V> cacheEntryListenerConfiguration)
+    {
+        throw new UnsupportedOperationException("Entry listeners are not supported with value codecs");
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator()
+    {
+        Iterator<Entry<K, byte[]>> iterator = target.iterator();
+        return new Iterator<>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Entry<K, V> next()
+            {
+                return new DecodingEntry(iterator.next());
+            }
+
+            @Override
+            public void remove()
+            {
+                iterator.remove();
+            }
+        };
+    }
+}
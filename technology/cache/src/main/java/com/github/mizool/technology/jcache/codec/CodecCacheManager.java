@@ -0,0 +1,120 @@
+package com.github.mizool.technology.jcache.codec;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.cache.Cache;
+import javax.cache.configuration.CompleteConfiguration;
+import javax.cache.configuration.Configuration;
+import javax.cache.configuration.MutableConfiguration;
+import jakarta.inject.Inject;
+
+import lombok.NonNull;
+
+import com.github.mizool.core.NonDefault;
+import com.github.mizool.technology.jcache.common.AbstractDelegatingCacheManager;
+import com.github.mizool.technology.jcache.common.MBeans;
+import com.github.mizool.technology.jcache.config.CacheCreationRegistry;
+
+/**
+ * Applies the {@link ValueCodec} configured for a cache, if any. Caches without a codec are passed through unchanged.
+ * The codec is looked up for each {@link #createCache(String, Configuration)} and {@link #getCache(String)}, so caches
+ * which already exist at the provider are decoded as well if their codec is configured in the system properties.<br>
+ * <br>
+ * For each cache using a codec, a {@link CodecStatisticsMXBean} is registered.
+ */
+@NonDefault
+public class CodecCacheManager extends AbstractDelegatingCacheManager
+{
+    private static final String OBJECT_NAME_PREFIX = "com.github.mizool.technology.jcache:type=CodecStatistics,name=";
+
+    private final CacheCreationRegistry cacheCreationRegistry;
+    private final Map<String, CodecStatistics> statistics = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> valueTypes = new ConcurrentHashMap<>();
+
+    @Inject
+    public CodecCacheManager(@NonNull CacheCreationRegistry cacheCreationRegistry)
+    {
+        this.cacheCreationRegistry = cacheCreationRegistry;
+    }
+
+    @Override
+    public <K, V, C extends Configuration<K, V>> Cache<K, V> createCache(String cacheName, C configuration)
+        throws IllegalArgumentException
+    {
+        Optional<ValueCodec<V>> valueCodec = cacheCreationRegistry.getValueCodec(cacheName);
+        if (valueCodec.isEmpty())
+        {
+            return super.createCache(cacheName, configuration);
+        }
+
+        Cache<K, byte[]> cache = super.createCache(cacheName, toEncodedConfiguration(configuration));
+        valueTypes.put(cacheName, configuration.getValueType());
+        return new CodecCache<>(cache, valueCodec.get(), configuration.getValueType(), getStatistics(cacheName));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> MutableConfiguration<K, byte[]> toEncodedConfiguration(Configuration<K, V> configuration)
+    {
+        MutableConfiguration<K, byte[]> result = new MutableConfiguration<>();
+        if (configuration instanceof CompleteConfiguration)
+        {
+            CompleteConfiguration<K, V> completeConfiguration = (CompleteConfiguration<K, V>) configuration;
+            if (completeConfiguration.isReadThrough() ||
+                completeConfiguration.isWriteThrough() ||
+                completeConfiguration.getCacheEntryListenerConfigurations()
+                    .iterator()
+                    .hasNext())
+            {
+                throw new IllegalArgumentException(
+                    "Read-through, write-through and entry listeners are not supported with value codecs");
+            }
+            result.setExpiryPolicyFactory(completeConfiguration.getExpiryPolicyFactory())
+                .setManagementEnabled(completeConfiguration.isManagementEnabled())
+                .setStatisticsEnabled(completeConfiguration.isStatisticsEnabled());
+        }
+        return result.setStoreByValue(configuration.isStoreByValue())
+            .setTypes(configuration.getKeyType(), byte[].class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Cache<K, V> getCache(String cacheName)
+    {
+        Optional<ValueCodec<V>> valueCodec = cacheCreationRegistry.getValueCodec(cacheName);
+        if (valueCodec.isEmpty())
+        {
+            return super.getCache(cacheName);
+        }
+
+        Cache<K, byte[]> cache = super.getCache(cacheName);
+        if (cache == null)
+        {
+            return null;
+        }
+
+        // Caches created by another JVM have no declared value type here, which JCache expresses as Object
+        Class<V> valueType = (Class<V>) valueTypes.getOrDefault(cacheName, Object.class);
+        return new CodecCache<>(cache, valueCodec.get(), valueType, getStatistics(cacheName));
+    }
+
+    private CodecStatistics getStatistics(String cacheName)
+    {
+        return statistics.computeIfAbsent(cacheName, name -> {
+            CodecStatistics result = new CodecStatistics();
+            MBeans.register(result, OBJECT_NAME_PREFIX + MBeans.quote(name));
+            return result;
+        });
+    }
+
+    @Override
+    public void close()
+    {
+        statistics.keySet()
+            .forEach(cacheName -> MBeans.unregister(OBJECT_NAME_PREFIX + MBeans.quote(cacheName)));
+        statistics.clear();
+        valueTypes.clear();
+        super.close();
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.mizool.technology.jcache.codec;
+
+import java.util.concurrent.atomic.LongAdder;
+
+class CodecStatistics implements CodecStatisticsMXBean
+{
+    private final LongAdder valuesWritten = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder valuesRead = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+
+    public void onWrite(byte[] bytes)
+    {
+        valuesWritten.increment();
+        bytesWritten.add(bytes.length);
+    }
+
+    public void onRead(byte[] bytes)
+    {
+        valuesRead.increment();
+        bytesRead.add(bytes.length);
+    }
+
+    @Override
+    public long getValuesWritten()
+    {
+        return valuesWritten.sum();
+    }
+
+    @Override
+    public long getBytesWritten()
+    {
+        return bytesWritten.sum();
+    }
+
+    @Override
+    public long getValuesRead()
+    {
+        return valuesRead.sum();
+    }
+
+    @Override
+    public long getBytesRead()
+    {
+        return bytesRead.sum();
+    }
+}
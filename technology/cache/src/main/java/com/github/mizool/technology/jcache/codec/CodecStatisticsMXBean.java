@@ -0,0 +1,15 @@
+package com.github.mizool.technology.jcache.codec;
+
+/**
+ * Exposes the amount of data a single cache with a {@link ValueCodec} handed to and received from its provider.
+ */
+public interface CodecStatisticsMXBean
+{
+    long getValuesWritten();
+
+    long getBytesWritten();
+
+    long getValuesRead();
+
+    long getBytesRead();
+}
@@ -0,0 +1,139 @@
+package com.github.mizool.technology.jcache.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import lombok.NonNull;
+
+import com.github.mizool.core.configuration.Config;
+
+/**
+ * Decorates another codec, compressing encoded values with Deflate if their size reaches a threshold. Smaller values
+ * are stored as they are, as compressing them would cost CPU time without saving much space.<br>
+ * <br>
+ * The default threshold is configured with the system property {@code cache.codec.compressionThreshold} (default:
+ * 1024 bytes).
+ */
+public class CompressingValueCodec<V> implements ValueCodec<V>
+{
+    private static final int DEFAULT_THRESHOLD = Config.systemProperties()
+        .child("cache.codec.compressionThreshold")
+        .intValue()
+        .read()
+        .orElse(1024);
+
+    private static final byte PLAIN = 0;
+    private static final byte DEFLATED = 1;
+    private static final int HEADER_SIZE = 1 + Integer.BYTES;
+
+    private final ValueCodec<V> target;
+    private final int threshold;
+
+    public CompressingValueCodec(@NonNull ValueCodec<V> target)
+    {
+        this(target, DEFAULT_THRESHOLD);
+    }
+
+    public CompressingValueCodec(@NonNull ValueCodec<V> target, int threshold)
+    {
+        this.target = target;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public byte[] encode(V value)
+    {
+        byte[] encoded = target.encode(value);
+        if (encoded.length < threshold)
+        {
+            return plain(encoded);
+        }
+
+        byte[] compressed = deflate(encoded);
+        if (compressed.length + HEADER_SIZE >= encoded.length)
+        {
+            return plain(encoded);
+        }
+
+        return ByteBuffer.allocate(HEADER_SIZE + compressed.length)
+            .put(DEFLATED)
+            .putInt(encoded.length)
+            .put(compressed)
+            .array();
+    }
+
+    private byte[] plain(byte[] encoded)
+    {
+        byte[] result = new byte[encoded.length + 1];
+        result[0] = PLAIN;
+        System.arraycopy(encoded, 0, result, 1, encoded.length);
+        return result;
+    }
+
+    private byte[] deflate(byte[] bytes)
+    {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try
+        {
+            deflater.setInput(bytes);
+            deflater.finish();
+
+            byte[] buffer = new byte[bytes.length];
+            int length = 0;
+            while (!deflater.finished() && length < buffer.length)
+            {
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            return Arrays.copyOf(buffer, length);
+        }
+        finally
+        {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public V decode(byte[] bytes)
+    {
+        if (bytes[0] == PLAIN)
+        {
+            return target.decode(Arrays.copyOfRange(bytes, 1, bytes.length));
+        }
+
+        int length = ByteBuffer.wrap(bytes, 1, Integer.BYTES)
+            .getInt();
+        return target.decode(inflate(bytes, length));
+    }
+
+    private byte[] inflate(byte[] bytes, int length)
+    {
+        Inflater inflater = new Inflater(true);
+        try
+        {
+            inflater.setInput(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+            byte[] result = new byte[length];
+            int inflated = 0;
+            while (inflated < length)
+            {
+                int count = inflater.inflate(result, inflated, length - inflated);
+                if (count == 0 && (inflater.finished() || inflater.needsInput()))
+                {
+                    throw new IllegalArgumentException("Compressed value is truncated");
+                }
+                inflated += count;
+            }
+            return result;
+        }
+        catch (DataFormatException e)
+        {
+            throw new IllegalArgumentException("Compressed value is corrupt", e);
+        }
+        finally
+        {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.mizool.technology.jcache.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stores values as UTF-8 encoded JSON. The actual JSON library is plugged in via functions, e.g.
+ * <pre>{@code
+ * new JsonValueCodec<>(gsonWrapper::toJson, json -> gsonWrapper.fromJson(json, MyPojo.class))}</pre>
+ */
+@RequiredArgsConstructor
+public class JsonValueCodec<V> implements ValueCodec<V>
+{
+    @NonNull
+    private final Function<V, String> serializer;
+
+    @NonNull
+    private final Function<String, V> deserializer;
+
+    @Override
+    public byte[] encode(V value)
+    {
+        return serializer.apply(value)
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public V decode(byte[] bytes)
+    {
+        return deserializer.apply(new String(bytes, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.mizool.technology.jcache.codec;
+
+/**
+ * Converts cache values to and from their binary representation.
+ *
+ * @see com.github.mizool.technology.jcache.config.CacheCreation#setValueCodec(ValueCodec)
+ */
+public interface ValueCodec<V>
+{
+    byte[] encode(V value);
+
+    V decode(byte[] bytes);
+}
@@ -0,0 +1,52 @@
+package com.github.mizool.technology.jcache.common;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registers monitoring beans with the platform MBean server. Failures are logged, but never propagated, as monitoring
+ * must not break caching.
+ */
+@Slf4j
+@UtilityClass
+public class MBeans
+{
+    public void register(Object mBean, String objectName)
+    {
+        try
+        {
+            ManagementFactory.getPlatformMBeanServer()
+                .registerMBean(mBean, new ObjectName(objectName));
+        }
+        catch (JMException e)
+        {
+            log.warn("Could not register MBean {} - {}", objectName, e.toString());
+        }
+    }
+
+    public void unregister(String objectName)
+    {
+        try
+        {
+            ManagementFactory.getPlatformMBeanServer()
+                .unregisterMBean(new ObjectName(objectName));
+        }
+        catch (JMException e)
+        {
+            log.warn("Could not unregister MBean {} - {}", objectName, e.toString());
+        }
+    }
+
+    /**
+     * Quotes the given value so that arbitrary cache names can be used as part of an {@link ObjectName}.
+     */
+    public String quote(String value)
+    {
+        return ObjectName.quote(value);
+    }
+}
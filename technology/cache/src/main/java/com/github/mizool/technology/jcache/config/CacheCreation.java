@@ -4,9 +4,29 @@ import javax.cache.configuration.MutableConfiguration;
 
 import lombok.Data;
 
+import com.github.mizool.technology.jcache.codec.ValueCodec;
+
 @Data
 public class CacheCreation<K, V>
 {
     private final String cacheName;
     private final MutableConfiguration<K, V> configuration;
+    private final CacheTimeouts timeouts;
+
+    /**
+     * If set, values are encoded with this codec before they are handed to the cache provider. Otherwise, the
+     * provider's own serialization is used. Initialized from the system properties.
+     *
+     * @see ValueCodecConfig
+     */
+    private ValueCodec<V> valueCodec;
+
+    public CacheCreation(String cacheName, MutableConfiguration<K, V> configuration)
+    {
+        this.cacheName = cacheName;
+        this.configuration = configuration;
+        this.timeouts = CacheTimeouts.fromConfig(cacheName);
+        this.valueCodec = ValueCodecConfig.<V>fromConfig(cacheName)
+            .orElse(null);
+    }
 }
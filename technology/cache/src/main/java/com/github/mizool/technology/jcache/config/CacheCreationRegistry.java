@@ -0,0 +1,57 @@
+package com.github.mizool.technology.jcache.config;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.inject.Singleton;
+
+import lombok.NonNull;
+
+import com.github.mizool.technology.jcache.codec.ValueCodec;
+
+/**
+ * Keeps the settings determined during {@link CacheCreation} so that they also apply when the cache is retrieved later
+ * on. Caches which were not created via {@link ConfigurableCacheManager} use the settings configured in the system
+ * properties.
+ */
+@Singleton
+public class CacheCreationRegistry
+{
+    private final Map<String, CacheCreation<?, ?>> cacheCreations = new ConcurrentHashMap<>();
+    private final Map<String, CacheTimeouts> configuredTimeouts = new ConcurrentHashMap<>();
+    private final Map<String, Optional<ValueCodec<?>>> configuredValueCodecs = new ConcurrentHashMap<>();
+
+    void register(@NonNull CacheCreation<?, ?> cacheCreation)
+    {
+        cacheCreations.put(cacheCreation.getCacheName(), cacheCreation);
+    }
+
+    public CacheTimeouts getTimeouts(@NonNull String cacheName)
+    {
+        CacheCreation<?, ?> cacheCreation = cacheCreations.get(cacheName);
+        if (cacheCreation != null)
+        {
+            return cacheCreation.getTimeouts();
+        }
+        return configuredTimeouts.computeIfAbsent(cacheName, CacheTimeouts::fromConfig);
+    }
+
+    /**
+     * @return the codec of the given cache. Also covers caches which already existed at the provider or were created by
+     * another JVM, as long as the codec is configured in the system properties.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Optional<ValueCodec<V>> getValueCodec(@NonNull String cacheName)
+    {
+        CacheCreation<?, ?> cacheCreation = cacheCreations.get(cacheName);
+        if (cacheCreation != null)
+        {
+            return Optional.ofNullable((ValueCodec<V>) cacheCreation.getValueCodec());
+        }
+        return configuredValueCodecs.computeIfAbsent(cacheName,
+                name -> Optional.<ValueCodec<?>>ofNullable(ValueCodecConfig.fromConfig(name)
+                    .orElse(null)))
+            .map(valueCodec -> (ValueCodec<V>) valueCodec);
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.mizool.technology.jcache.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The cache operations that can be configured individually, e.g. via {@link CacheTimeouts}.
+ */
+@RequiredArgsConstructor
+public enum CacheOperation
+{
+    /**
+     * Creating or retrieving the cache itself.
+     */
+    OBTAIN("obtain"),
+    GET("get"),
+    PUT("put"),
+    REMOVE("remove"),
+    REMOVE_ALL("removeAll");
+
+    /**
+     * The segment used to reference this operation in property keys.
+     */
+    @Getter
+    private final String propertyName;
+}
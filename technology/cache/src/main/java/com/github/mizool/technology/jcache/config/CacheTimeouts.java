@@ -0,0 +1,96 @@
+package com.github.mizool.technology.jcache.config;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+import com.github.mizool.core.configuration.Config;
+import com.github.mizool.core.configuration.PropertyNode;
+
+/**
+ * The timeouts applied to the operations of a single cache.<br>
+ * <br>
+ * Initial values are read from system properties in milliseconds. The most specific property wins:
+ * <ol>
+ * <li>{@code cache.<cacheName>.timeout.<operation>}</li>
+ * <li>{@code cache.<cacheName>.timeout}</li>
+ * <li>{@code cache.timeout.<operation>}</li>
+ * <li>{@code cache.timeout}</li>
+ * </ol>
+ * If none of them is set, a timeout of 10 seconds is used. Observers of {@link CacheCreation} can override the
+ * timeouts of a cache when it is created.
+ *
+ * @see CacheOperation#getPropertyName()
+ */
+@ToString
+@EqualsAndHashCode
+public final class CacheTimeouts
+{
+    private static final long DEFAULT_TIMEOUT = 10000L;
+
+    private final Map<CacheOperation, Duration> timeouts = new EnumMap<>(CacheOperation.class);
+
+    public static CacheTimeouts fromConfig(@NonNull String cacheName)
+    {
+        PropertyNode global = Config.systemProperties()
+            .child("cache.timeout");
+        PropertyNode specific = Config.systemProperties()
+            .child("cache")
+            .child(cacheName)
+            .child("timeout");
+
+        long globalDefault = global.longValue()
+            .read()
+            .orElse(DEFAULT_TIMEOUT);
+        long specificDefault = specific.longValue()
+            .read()
+            .orElse(-1L);
+
+        CacheTimeouts result = new CacheTimeouts();
+        for (CacheOperation operation : CacheOperation.values())
+        {
+            long millis = specific.child(operation.getPropertyName())
+                .longValue()
+                .read()
+                .orElseGet(() -> specificDefault >= 0
+                    ? specificDefault
+                    : global.child(operation.getPropertyName())
+                        .longValue()
+                        .read()
+                        .orElse(globalDefault));
+            result.timeouts.put(operation, Duration.ofMillis(millis));
+        }
+        return result;
+    }
+
+    private CacheTimeouts()
+    {
+    }
+
+    /**
+     * Sets the timeout of all operations.
+     */
+    public CacheTimeouts setAll(@NonNull Duration timeout)
+    {
+        for (CacheOperation operation : CacheOperation.values())
+        {
+            timeouts.put(operation, timeout);
+        }
+        return this;
+    }
+
+    public CacheTimeouts set(@NonNull CacheOperation operation, @NonNull Duration timeout)
+    {
+        timeouts.put(operation, timeout);
+        return this;
+    }
+
+    public Duration get(@NonNull CacheOperation operation)
+    {
+        return timeouts.get(operation);
+    }
+}
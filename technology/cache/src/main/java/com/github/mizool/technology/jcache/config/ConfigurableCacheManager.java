@@ -17,11 +17,14 @@ import com.github.mizool.technology.jcache.common.AbstractDelegatingCacheManager
 public class ConfigurableCacheManager extends AbstractDelegatingCacheManager
 {
     private final Event<CacheCreation<?, ?>> cacheCreationEvent;
+    private final CacheCreationRegistry cacheCreationRegistry;
 
     @Inject
-    public ConfigurableCacheManager(@NonNull Event<CacheCreation<?, ?>> cacheCreationEvent)
+    public ConfigurableCacheManager(
+        @NonNull Event<CacheCreation<?, ?>> cacheCreationEvent, @NonNull CacheCreationRegistry cacheCreationRegistry)
     {
         this.cacheCreationEvent = cacheCreationEvent;
+        this.cacheCreationRegistry = cacheCreationRegistry;
     }
 
     @Override
@@ -36,6 +39,7 @@ public class ConfigurableCacheManager extends AbstractDelegatingCacheManager
 
         CacheCreation<K, V> cacheCreation = new CacheCreation<>(cacheName, mutableConfiguration);
         cacheCreationEvent.fire(cacheCreation);
+        cacheCreationRegistry.register(cacheCreation);
 
         return super.createCache(cacheCreation.getCacheName(), cacheCreation.getConfiguration());
     }
@@ -0,0 +1,76 @@
+package com.github.mizool.technology.jcache.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import com.github.mizool.core.configuration.Config;
+import com.github.mizool.core.configuration.PropertyNode;
+import com.github.mizool.core.exception.ConfigurationException;
+import com.github.mizool.technology.jcache.codec.CompressingValueCodec;
+import com.github.mizool.technology.jcache.codec.ValueCodec;
+
+/**
+ * Reads the value codec of a cache from system properties:
+ * <ul>
+ * <li>{@code cache.<cacheName>.valueCodec}: the fully qualified name of a {@link ValueCodec} implementation with a
+ * public no-argument constructor, e.g. {@code com.github.mizool.technology.jcache.codec.BinaryValueCodec}</li>
+ * <li>{@code cache.<cacheName>.valueCodec.compressed}: if {@code true}, the codec is wrapped in a
+ * {@link CompressingValueCodec}</li>
+ * </ul>
+ * As the values stored by the cache provider outlive the JVM, the codec has to be configured this way (rather than
+ * only via {@link CacheCreation}) for caches that may already exist when the application starts.
+ */
+@UtilityClass
+class ValueCodecConfig
+{
+    public <V> Optional<ValueCodec<V>> fromConfig(@NonNull String cacheName)
+    {
+        PropertyNode config = Config.systemProperties()
+            .child("cache")
+            .child(cacheName)
+            .child("valueCodec");
+
+        Optional<ValueCodec<V>> valueCodec = config.stringValue()
+            .read()
+            .map(ValueCodecConfig::instantiate);
+        if (config.child("compressed")
+            .booleanValue()
+            .read()
+            .orElse(false))
+        {
+            valueCodec = valueCodec.map(CompressingValueCodec::new);
+        }
+        return valueCodec;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> ValueCodec<V> instantiate(String className)
+    {
+        try
+        {
+            Class<?> codecClass = Class.forName(className,
+                true,
+                Thread.currentThread()
+                    .getContextClassLoader());
+            if (!ValueCodec.class.isAssignableFrom(codecClass))
+            {
+                throw new ConfigurationException(className + " is not a " + ValueCodec.class.getName());
+            }
+
+            // The codec decides at runtime which values it accepts, so the type argument cannot be checked
+            return (ValueCodec<V>) codecClass.getConstructor()
+                .newInstance();
+        }
+        catch (ClassNotFoundException |
+               NoSuchMethodException |
+               InstantiationException |
+               IllegalAccessException |
+               InvocationTargetException e)
+        {
+            throw new ConfigurationException("Could not create value codec " + className, e);
+        }
+    }
+}
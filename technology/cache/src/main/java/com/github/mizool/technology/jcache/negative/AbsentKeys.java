@@ -0,0 +1,106 @@
+package com.github.mizool.technology.jcache.negative;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The keys known to be absent from one cache, each with its own expiry time. When the configured size is exceeded,
+ * the least recently used key is dropped.
+ */
+class AbsentKeys implements NegativeCacheStatisticsMXBean
+{
+    private final long ttlNanos;
+    private final Map<Object, Long> expiryTimes;
+
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder negativeMisses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public AbsentKeys(NegativeCacheSettings settings)
+    {
+        ttlNanos = settings.getTtl()
+            .toNanos();
+        expiryTimes = new LinkedHashMap<>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Long> eldest)
+            {
+                boolean result = size() > settings.getMaxEntries();
+                if (result)
+                {
+                    evictions.increment();
+                }
+                return result;
+            }
+        };
+    }
+
+    public boolean contains(Object key)
+    {
+        boolean result = containsUnexpired(key);
+        if (result)
+        {
+            negativeHits.increment();
+        }
+        else
+        {
+            negativeMisses.increment();
+        }
+        return result;
+    }
+
+    private synchronized boolean containsUnexpired(Object key)
+    {
+        Long expiryTime = expiryTimes.get(key);
+        if (expiryTime == null)
+        {
+            return false;
+        }
+        if (expiryTime - System.nanoTime() <= 0)
+        {
+            expiryTimes.remove(key);
+            return false;
+        }
+        return true;
+    }
+
+    public synchronized void add(Object key)
+    {
+        expiryTimes.put(key, System.nanoTime() + ttlNanos);
+    }
+
+    public synchronized void remove(Object key)
+    {
+        expiryTimes.remove(key);
+    }
+
+    public synchronized void clear()
+    {
+        expiryTimes.clear();
+    }
+
+    @Override
+    public synchronized int getAbsentKeys()
+    {
+        return expiryTimes.size();
+    }
+
+    @Override
+    public long getNegativeHits()
+    {
+        return negativeHits.sum();
+    }
+
+    @Override
+    public long getNegativeMisses()
+    {
+        return negativeMisses.sum();
+    }
+
+    @Override
+    public long getEvictions()
+    {
+        return evictions.sum();
+    }
+}
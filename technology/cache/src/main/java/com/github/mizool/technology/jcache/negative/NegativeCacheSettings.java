@@ -0,0 +1,51 @@
+package com.github.mizool.technology.jcache.negative;
+
+import java.time.Duration;
+
+import lombok.Value;
+
+import com.github.mizool.core.configuration.Config;
+import com.github.mizool.core.configuration.PropertyNode;
+
+/**
+ * Settings for the negative results of a single cache, read from the following system properties:
+ * <ul>
+ * <li>{@code cache.negative.ttl}: how long a key is known to be absent, e.g. {@code 30 seconds} (the default). Can be
+ * overridden for a single cache with {@code cache.negative.<cacheName>.ttl}.</li>
+ * <li>{@code cache.negative.maxEntries}: maximum number of absent keys per cache, default 10000. Can be overridden
+ * for a single cache with {@code cache.negative.<cacheName>.maxEntries}.</li>
+ * </ul>
+ */
+@Value
+class NegativeCacheSettings
+{
+    private static final PropertyNode CONFIG = Config.systemProperties()
+        .child("cache.negative");
+
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+
+    Duration ttl;
+    int maxEntries;
+
+    public static NegativeCacheSettings forCache(String cacheName)
+    {
+        Duration ttl = CONFIG.child(cacheName)
+            .child("ttl")
+            .readableDuration()
+            .read()
+            .orElseGet(() -> CONFIG.child("ttl")
+                .readableDuration()
+                .read()
+                .orElse(DEFAULT_TTL));
+        int maxEntries = CONFIG.child(cacheName)
+            .child("maxEntries")
+            .intValue()
+            .read()
+            .orElseGet(() -> CONFIG.child("maxEntries")
+                .intValue()
+                .read()
+                .orElse(DEFAULT_MAX_ENTRIES));
+        return new NegativeCacheSettings(ttl, maxEntries);
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.mizool.technology.jcache.negative;
+
+public interface NegativeCacheStatisticsMXBean
+{
+    /**
+     * @return the number of keys currently known to be absent, including expired ones not yet dropped
+     */
+    int getAbsentKeys();
+
+    /**
+     * @return the number of lookups answered as absent without asking the loader
+     */
+    long getNegativeHits();
+
+    /**
+     * @return the number of cache misses that had to be passed to the loader
+     */
+    long getNegativeMisses();
+
+    /**
+     * @return the number of absent keys dropped because the size limit was reached
+     */
+    long getEvictions();
+}
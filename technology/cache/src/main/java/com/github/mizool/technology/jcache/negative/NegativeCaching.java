@@ -0,0 +1,108 @@
+package com.github.mizool.technology.jcache.negative;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.cache.Cache;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import lombok.NonNull;
+
+import com.github.mizool.technology.jcache.common.MBeans;
+
+/**
+ * Remembers that a key is absent from the underlying store, so that repeated lookups of non-existent entities do not
+ * reach the store every time. Typical usage:
+ * <pre>{@code
+ *     Optionals.unwrapUserRequestedObject(negativeCaching.get(cache, id, store::read), Foo.class)
+ * }</pre>
+ * Absent keys are kept locally on each node with their own, usually short time to live and size limit, see
+ * {@link NegativeCacheSettings}. Use {@link #put(Cache, Object, Object)} or {@link #remove(Cache, Object)} when an
+ * entity is created so that it is visible immediately on this node.<br>
+ * <br>
+ * Statistics are exposed as MXBeans named {@code com.github.mizool.technology.jcache:type=NegativeCacheStatistics}.
+ */
+@Singleton
+public class NegativeCaching
+{
+    private static final String MBEAN_NAME = "com.github.mizool.technology.jcache:type=NegativeCacheStatistics,name=";
+
+    private final Map<String, AbsentKeys> absentKeysByCache = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the value from the cache or, if the key is neither cached nor known to be absent, from the loader.
+     *
+     * @return the value, or {@link Optional#empty()} if the key is absent
+     */
+    public <K, V> Optional<V> get(
+        @NonNull Cache<K, V> cache, @NonNull K key, @NonNull Function<? super K, Optional<V>> loader)
+    {
+        V cached = cache.get(key);
+        if (cached != null)
+        {
+            return Optional.of(cached);
+        }
+
+        AbsentKeys absentKeys = getAbsentKeys(cache.getName());
+        if (absentKeys.contains(key))
+        {
+            return Optional.empty();
+        }
+
+        Optional<V> result = loader.apply(key);
+        if (result.isPresent())
+        {
+            cache.put(key, result.get());
+        }
+        else
+        {
+            absentKeys.add(key);
+        }
+        return result;
+    }
+
+    /**
+     * Puts the value into the cache and forgets that the key was absent.
+     */
+    public <K, V> void put(@NonNull Cache<K, V> cache, @NonNull K key, @NonNull V value)
+    {
+        getAbsentKeys(cache.getName()).remove(key);
+        cache.put(key, value);
+    }
+
+    /**
+     * Removes the key from the cache and forgets that it was absent.
+     */
+    public <K> void remove(@NonNull Cache<K, ?> cache, @NonNull K key)
+    {
+        getAbsentKeys(cache.getName()).remove(key);
+        cache.remove(key);
+    }
+
+    /**
+     * Forgets all keys known to be absent from the given cache.
+     */
+    public void clear(@NonNull Cache<?, ?> cache)
+    {
+        getAbsentKeys(cache.getName()).clear();
+    }
+
+    private AbsentKeys getAbsentKeys(String cacheName)
+    {
+        return absentKeysByCache.computeIfAbsent(cacheName, name -> {
+            AbsentKeys result = new AbsentKeys(NegativeCacheSettings.forCache(name));
+            MBeans.register(result, MBEAN_NAME + MBeans.quote(name));
+            return result;
+        });
+    }
+
+    @PreDestroy
+    void unregisterMBeans()
+    {
+        absentKeysByCache.keySet()
+            .forEach(name -> MBeans.unregister(MBEAN_NAME + MBeans.quote(name)));
+    }
+}
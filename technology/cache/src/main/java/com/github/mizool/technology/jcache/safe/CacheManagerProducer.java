@@ -1,5 +1,7 @@
 package com.github.mizool.technology.jcache.safe;
 
+import java.util.Optional;
+
 import javax.cache.CacheManager;
 import javax.cache.Caching;
 import javax.cache.spi.CachingProvider;
@@ -10,18 +12,32 @@ import jakarta.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 
 import com.github.mizool.core.NonDefault;
+import com.github.mizool.core.configuration.Config;
+import com.github.mizool.technology.jcache.codec.CodecCacheManager;
 import com.github.mizool.technology.jcache.config.ConfigurableCacheManager;
+import com.github.mizool.technology.jcache.snapshot.SnapshotCacheManager;
 import com.github.mizool.technology.jcache.timeouting.TimeoutingCacheManager;
 
 @Slf4j
 class CacheManagerProducer
 {
+    /**
+     * The fully qualified class name of the {@link CachingProvider} to use. Only required if there is more than one
+     * provider on the classpath.
+     */
+    private static final Optional<String> CACHING_PROVIDER = Config.systemProperties()
+        .child("cache.provider")
+        .stringValue()
+        .read();
+
     @Singleton
     @Produces
     public CacheManager produce(
         CacheWatchdog cacheWatchdog,
         @NonDefault SafeCacheManager safeCacheManager,
         @NonDefault NoOpCacheManager noOpCacheManager,
+        @NonDefault SnapshotCacheManager snapshotCacheManager,
+        @NonDefault CodecCacheManager codecCacheManager,
         @NonDefault TimeoutingCacheManager timeoutingCacheManager,
         @NonDefault ConfigurableCacheManager configurableCacheManager)
     {
@@ -32,12 +48,15 @@ class CacheManagerProducer
 
         try
         {
-            CachingProvider provider = Caching.getCachingProvider();
+            CachingProvider provider = CACHING_PROVIDER.map(Caching::getCachingProvider)
+                .orElseGet(Caching::getCachingProvider);
             CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(),
                 provider.getDefaultClassLoader());
 
             timeoutingCacheManager.setTarget(cacheManager);
-            safeCacheManager.setTarget(timeoutingCacheManager);
+            codecCacheManager.setTarget(timeoutingCacheManager);
+            snapshotCacheManager.setTarget(codecCacheManager);
+            safeCacheManager.setTarget(snapshotCacheManager);
             configurableCacheManager.setTarget(safeCacheManager);
 
             return configurableCacheManager;
@@ -4,9 +4,18 @@ import com.github.mizool.technology.jcache.common.AbstractDelegatingCache;
 
 class NoOpCache<K, V> extends AbstractDelegatingCache<K, V>
 {
-    public NoOpCache()
+    private final String name;
+
+    public NoOpCache(String name)
     {
         super(null);
+        this.name = name;
+    }
+
+    @Override
+    public String getName()
+    {
+        return name;
     }
 
     @Override
@@ -16,12 +16,12 @@ class NoOpCacheManager extends AbstractDelegatingCacheManager
     public <K, V, C extends Configuration<K, V>> Cache<K, V> createCache(String cacheName, C configuration)
         throws IllegalArgumentException
     {
-        return new NoOpCache<>();
+        return new NoOpCache<>(cacheName);
     }
 
     @Override
     public <K, V> Cache<K, V> getCache(String cacheName)
     {
-        return new NoOpCache<>();
+        return new NoOpCache<>(cacheName);
     }
 }
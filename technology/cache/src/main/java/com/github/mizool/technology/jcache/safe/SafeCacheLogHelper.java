@@ -1,5 +1,7 @@
 package com.github.mizool.technology.jcache.safe;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import lombok.experimental.UtilityClass;
 
 import org.slf4j.Logger;
@@ -56,7 +58,7 @@ class SafeCacheLogHelper
 
     private void log(String message, Throwable t, Logger log)
     {
-        if (t instanceof UncheckedTimeoutException)
+        if (t instanceof UncheckedTimeoutException || t instanceof RejectedExecutionException)
         {
             t = rootCause(t);
             log.warn("{} - {}", message, t.getClass().getName());
@@ -1,5 +1,7 @@
 package com.github.mizool.technology.jcache.safe;
 
+import java.util.Optional;
+
 import javax.cache.Cache;
 import javax.cache.configuration.Configuration;
 import jakarta.inject.Inject;
@@ -28,7 +30,7 @@ class SafeCacheManager extends AbstractDelegatingCacheManager
     {
         if (cacheWatchdog.isCacheBroken())
         {
-            return new NoOpCache<>();
+            return new NoOpCache<>(cacheName);
         }
 
         try
@@ -38,9 +40,31 @@ class SafeCacheManager extends AbstractDelegatingCacheManager
         }
         catch (RuntimeException e)
         {
+            Optional<Cache<K, V>> concurrentlyCreated = getConcurrentlyCreated(cacheName);
+            if (concurrentlyCreated.isPresent())
+            {
+                return new SafeCache<>(concurrentlyCreated.get(), cacheWatchdog);
+            }
+
             SafeCacheLogHelper.onCreate(cacheName, e, log);
             cacheWatchdog.cacheOperationFailed();
-            return new NoOpCache<>();
+            return new NoOpCache<>(cacheName);
+        }
+    }
+
+    /**
+     * Creating a cache fails if it already exists. If another thread created it in the meantime, that is no reason to
+     * disable caching.
+     */
+    private <K, V> Optional<Cache<K, V>> getConcurrentlyCreated(String cacheName)
+    {
+        try
+        {
+            return Optional.ofNullable(super.getCache(cacheName));
+        }
+        catch (RuntimeException e)
+        {
+            return Optional.empty();
         }
     }
 
@@ -49,7 +73,7 @@ class SafeCacheManager extends AbstractDelegatingCacheManager
     {
         if (cacheWatchdog.isCacheBroken())
         {
-            return new NoOpCache<>();
+            return new NoOpCache<>(cacheName);
         }
 
         try
@@ -66,7 +90,7 @@ class SafeCacheManager extends AbstractDelegatingCacheManager
         {
             SafeCacheLogHelper.onObtain(cacheName, e, log);
             cacheWatchdog.cacheOperationFailed();
-            return new NoOpCache<>();
+            return new NoOpCache<>(cacheName);
         }
     }
 }
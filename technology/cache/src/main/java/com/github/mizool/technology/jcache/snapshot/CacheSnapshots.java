@@ -0,0 +1,261 @@
+package com.github.mizool.technology.jcache.snapshot;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.MutableConfiguration;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.BeforeDestroyed;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.mizool.core.configuration.Config;
+import com.github.mizool.core.configuration.PropertyNode;
+import com.github.mizool.technology.jcache.codec.BinaryValueCodec;
+import com.github.mizool.technology.jcache.codec.ValueCodec;
+import com.github.mizool.technology.jcache.config.CacheCreationRegistry;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Writes the hottest entries of selected caches to local files and pre-loads them on the next start, so that a freshly
+ * deployed node does not start with cold caches.<br>
+ * <br>
+ * Snapshots are configured with the following system properties:
+ * <ul>
+ * <li>{@code cache.snapshot.directory}: where to store the snapshot files. Snapshots are disabled if not set.</li>
+ * <li>{@code cache.snapshot.caches}: comma-separated names of the caches to snapshot.</li>
+ * <li>{@code cache.snapshot.maxEntries}: number of entries to keep per cache, default 10000.</li>
+ * <li>{@code cache.snapshot.interval}: interval for periodic snapshots, e.g. {@code 15 minutes}. If not set,
+ * snapshots are only written on shutdown.</li>
+ * </ul>
+ * Values are encoded with the cache's {@link ValueCodec}, if any, and with {@link BinaryValueCodec} otherwise. The
+ * warm-up runs in the background after application startup. Use {@link #isWarmedUp()} to delay readiness until it has
+ * finished.
+ */
+@Slf4j
+@Singleton
+public class CacheSnapshots
+{
+    private static final PropertyNode CONFIG = Config.systemProperties()
+        .child("cache.snapshot");
+
+    private static final Optional<Path> DIRECTORY = CONFIG.child("directory")
+        .pathValue()
+        .read();
+
+    private static final Set<String> CACHE_NAMES = CONFIG.child("caches")
+        .stringsValue()
+        .read()
+        .map(names -> names.collect(Collectors.toSet()))
+        .orElse(Set.of());
+
+    private static final int MAX_ENTRIES = CONFIG.child("maxEntries")
+        .intValue()
+        .read()
+        .orElse(10000);
+
+    private static final Optional<Duration> INTERVAL = CONFIG.child("interval")
+        .readableDuration()
+        .read();
+
+    private static final String FILE_SUFFIX = ".snapshot";
+
+    private final CacheCreationRegistry cacheCreationRegistry;
+    private final Instance<CacheManager> cacheManager;
+
+    private final ValueCodec<Object> keyCodec = new BinaryValueCodec<>();
+    private final Map<String, HotKeyTracker<?>> hotKeyTrackers = new ConcurrentHashMap<>();
+    private final Map<String, SnapshotCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    private volatile boolean warmedUp;
+    private ScheduledExecutorService executorService;
+
+    @Inject
+    public CacheSnapshots(@NonNull CacheCreationRegistry cacheCreationRegistry, Instance<CacheManager> cacheManager)
+    {
+        this.cacheCreationRegistry = cacheCreationRegistry;
+        this.cacheManager = cacheManager;
+    }
+
+    private boolean isEnabled()
+    {
+        return DIRECTORY.isPresent() && !CACHE_NAMES.isEmpty();
+    }
+
+    boolean isSelected(String cacheName)
+    {
+        return isEnabled() && CACHE_NAMES.contains(cacheName);
+    }
+
+    @SuppressWarnings("unchecked")
+    <K> HotKeyTracker<K> getHotKeyTracker(String cacheName)
+    {
+        return (HotKeyTracker<K>) hotKeyTrackers.computeIfAbsent(cacheName,
+            name -> new HotKeyTracker<>(MAX_ENTRIES * 4));
+    }
+
+    void register(String cacheName, SnapshotCache<?, ?> cache)
+    {
+        caches.put(cacheName, cache);
+    }
+
+    /**
+     * @return {@code true} once the caches have been pre-loaded from their snapshots, or if snapshots are disabled
+     */
+    public boolean isWarmedUp()
+    {
+        return warmedUp || !isEnabled();
+    }
+
+    void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event)
+    {
+        if (!isEnabled())
+        {
+            return;
+        }
+
+        executorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat(
+                "cache-snapshot-%d")
+            .setDaemon(true)
+            .build());
+        executorService.execute(this::warmUp);
+        INTERVAL.map(Duration::toMillis)
+            .ifPresent(interval -> executorService.scheduleWithFixedDelay(this::writeSnapshots,
+                interval,
+                interval,
+                TimeUnit.MILLISECONDS));
+    }
+
+    void onShutdown(@Observes @BeforeDestroyed(ApplicationScoped.class) Object event)
+    {
+        if (executorService != null)
+        {
+            executorService.shutdownNow();
+            writeSnapshots();
+        }
+    }
+
+    private void warmUp()
+    {
+        try
+        {
+            for (String cacheName : CACHE_NAMES)
+            {
+                try
+                {
+                    warmUp(cacheName);
+                }
+                catch (IOException | RuntimeException e)
+                {
+                    log.warn("Could not warm up cache {} - {}", cacheName, e.toString());
+                    log.debug("Stack trace for warning", e);
+                }
+            }
+        }
+        finally
+        {
+            warmedUp = true;
+        }
+    }
+
+    private void warmUp(String cacheName) throws IOException
+    {
+        Path file = getFile(cacheName);
+        if (!Files.exists(file))
+        {
+            return;
+        }
+
+        List<Map.Entry<byte[], byte[]>> entries = SnapshotFile.read(file);
+        Cache<Object, Object> cache = obtainCache(cacheName);
+        ValueCodec<Object> valueCodec = getValueCodec(cacheName);
+        for (Map.Entry<byte[], byte[]> entry : entries)
+        {
+            Object key = keyCodec.decode(entry.getKey());
+
+            // Entries written since startup are more recent than the snapshot
+            if (cache.get(key) == null)
+            {
+                cache.put(key, valueCodec.decode(entry.getValue()));
+            }
+        }
+        log.info("Warmed up cache {} with {} entries", cacheName, entries.size());
+    }
+
+    private Cache<Object, Object> obtainCache(String cacheName)
+    {
+        CacheManager manager = cacheManager.get();
+        Cache<Object, Object> result = manager.getCache(cacheName);
+        if (result == null)
+        {
+            // If the application creates the cache concurrently, SafeCacheManager returns the one it created
+            result = manager.createCache(cacheName, new MutableConfiguration<>());
+        }
+        return result;
+    }
+
+    private void writeSnapshots()
+    {
+        caches.forEach((cacheName, cache) -> {
+            try
+            {
+                writeSnapshot(cacheName, cache);
+            }
+            catch (IOException | RuntimeException e)
+            {
+                log.warn("Could not write snapshot of cache {} - {}", cacheName, e.toString());
+                log.debug("Stack trace for warning", e);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeSnapshot(String cacheName, SnapshotCache<?, ?> cache) throws IOException
+    {
+        ValueCodec<Object> valueCodec = getValueCodec(cacheName);
+        Map<Object, Object> hottestEntries = ((SnapshotCache<Object, Object>) cache).getHottestEntries(MAX_ENTRIES);
+
+        List<Map.Entry<byte[], byte[]>> entries = new ArrayList<>(hottestEntries.size());
+        hottestEntries.forEach((key, value) -> entries.add(Map.entry(keyCodec.encode(key),
+            valueCodec.encode(value))));
+
+        Path file = getFile(cacheName);
+        Files.createDirectories(file.getParent());
+        SnapshotFile.write(file, entries);
+        log.debug("Wrote snapshot of cache {} with {} entries", cacheName, entries.size());
+    }
+
+    private ValueCodec<Object> getValueCodec(String cacheName)
+    {
+        return cacheCreationRegistry.<Object>getValueCodec(cacheName)
+            .orElseGet(BinaryValueCodec::new);
+    }
+
+    private Path getFile(String cacheName)
+    {
+        return DIRECTORY.orElseThrow()
+            .resolve(URLEncoder.encode(cacheName, StandardCharsets.UTF_8) + FILE_SUFFIX);
+    }
+}
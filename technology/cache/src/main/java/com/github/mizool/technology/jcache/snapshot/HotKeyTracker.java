@@ -0,0 +1,94 @@
+package com.github.mizool.technology.jcache.snapshot;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Counts cache hits per key to determine the hottest entries. To bound memory usage, the number of tracked keys is
+ * limited: once it exceeds the capacity, the less frequently used half of the keys is dropped. After ten times as many
+ * hits as the capacity, all counts are halved so that old hits lose weight over time.
+ */
+class HotKeyTracker<K>
+{
+    private final int capacity;
+    private final int agingInterval;
+    private final Map<K, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final AtomicInteger hitsSinceAging = new AtomicInteger();
+    private final ReentrantLock pruneLock = new ReentrantLock();
+
+    HotKeyTracker(int capacity)
+    {
+        this.capacity = capacity;
+        this.agingInterval = capacity * 10;
+    }
+
+    public void record(K key)
+    {
+        hits.computeIfAbsent(key, k -> new AtomicInteger())
+            .incrementAndGet();
+
+        boolean agingDue = hitsSinceAging.incrementAndGet() >= agingInterval;
+        if ((agingDue || hits.size() > capacity) && pruneLock.tryLock())
+        {
+            try
+            {
+                if (agingDue)
+                {
+                    age();
+                }
+                prune();
+            }
+            finally
+            {
+                pruneLock.unlock();
+            }
+        }
+    }
+
+    private void age()
+    {
+        hitsSinceAging.set(0);
+        hits.values()
+            .forEach(count -> count.updateAndGet(value -> value / 2));
+    }
+
+    private void prune()
+    {
+        if (hits.size() <= capacity)
+        {
+            return;
+        }
+
+        List<K> coldKeys = sortedByHits().stream()
+            .skip(capacity / 2)
+            .collect(Collectors.toList());
+        coldKeys.forEach(hits::remove);
+    }
+
+    /**
+     * @return the keys with the most hits, hottest first
+     */
+    public List<K> getHottestKeys(int limit)
+    {
+        return sortedByHits().stream()
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    private List<K> sortedByHits()
+    {
+        return hits.entrySet()
+            .stream()
+            .map(entry -> Map.entry(entry.getKey(),
+                entry.getValue()
+                    .get()))
+            .sorted(Map.Entry.<K, Integer>comparingByValue(Comparator.reverseOrder()))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.mizool.technology.jcache.snapshot;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import javax.cache.Cache;
+
+import lombok.NonNull;
+
+import com.github.mizool.technology.jcache.common.AbstractDelegatingCache;
+
+class SnapshotCache<K, V> extends AbstractDelegatingCache<K, V>
+{
+    private final HotKeyTracker<K> hotKeyTracker;
+
+    public SnapshotCache(@NonNull Cache<K, V> target, @NonNull HotKeyTracker<K> hotKeyTracker)
+    {
+        super(target);
+        this.hotKeyTracker = hotKeyTracker;
+    }
+
+    @Override
+    public V get(K key)
+    {
+        V result = getTarget().get(key);
+        if (result != null)
+        {
+            hotKeyTracker.record(key);
+        }
+        return result;
+    }
+
+    /**
+     * Reads the entries with the most hits. Entries that are no longer present in the cache are skipped.
+     */
+    public Map<K, V> getHottestEntries(int limit)
+    {
+        return getTarget().getAll(new LinkedHashSet<>(hotKeyTracker.getHottestKeys(limit)));
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.mizool.technology.jcache.snapshot;
+
+import javax.cache.Cache;
+import javax.cache.configuration.Configuration;
+import jakarta.inject.Inject;
+
+import lombok.NonNull;
+
+import com.github.mizool.core.NonDefault;
+import com.github.mizool.technology.jcache.common.AbstractDelegatingCacheManager;
+
+/**
+ * Tracks the hottest entries of the caches selected for snapshots. Other caches are passed through unchanged.
+ *
+ * @see CacheSnapshots
+ */
+@NonDefault
+public class SnapshotCacheManager extends AbstractDelegatingCacheManager
+{
+    private final CacheSnapshots cacheSnapshots;
+
+    @Inject
+    public SnapshotCacheManager(@NonNull CacheSnapshots cacheSnapshots)
+    {
+        this.cacheSnapshots = cacheSnapshots;
+    }
+
+    @Override
+    public <K, V, C extends Configuration<K, V>> Cache<K, V> createCache(String cacheName, C configuration)
+        throws IllegalArgumentException
+    {
+        return wrap(cacheName, super.createCache(cacheName, configuration));
+    }
+
+    @Override
+    public <K, V> Cache<K, V> getCache(String cacheName)
+    {
+        return wrap(cacheName, super.getCache(cacheName));
+    }
+
+    private <K, V> Cache<K, V> wrap(String cacheName, Cache<K, V> cache)
+    {
+        if (cache == null || !cacheSnapshots.isSelected(cacheName))
+        {
+            return cache;
+        }
+
+        SnapshotCache<K, V> result = new SnapshotCache<>(cache, cacheSnapshots.getHotKeyTracker(cacheName));
+        cacheSnapshots.register(cacheName, result);
+        return result;
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.mizool.technology.jcache.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Reads and writes snapshot files. The format is sequential and uses fixed-size, big-endian length prefixes so that a
+ * file can be read straight from a memory mapping:
+ * <pre>
+ * int magic, int version, int entryCount
+ * entryCount times: int keyLength, byte[keyLength] key, int valueLength, byte[valueLength] value
+ * </pre>
+ * Files are written to a temporary file first and then moved into place, so readers never see partial snapshots.
+ */
+@UtilityClass
+class SnapshotFile
+{
+    private final int MAGIC = 0x4d5a4353;
+    private final int VERSION = 1;
+
+    public void write(Path path, List<Map.Entry<byte[], byte[]>> entries) throws IOException
+    {
+        Path temporaryFile = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+            temporaryFile))))
+        {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            for (Map.Entry<byte[], byte[]> entry : entries)
+            {
+                out.writeInt(entry.getKey().length);
+                out.write(entry.getKey());
+                out.writeInt(entry.getValue().length);
+                out.write(entry.getValue());
+            }
+        }
+        Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public List<Map.Entry<byte[], byte[]>> read(Path path) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+            {
+                throw new IOException("Unsupported snapshot format");
+            }
+
+            int entryCount = buffer.getInt();
+            List<Map.Entry<byte[], byte[]>> result = new ArrayList<>(entryCount);
+            for (int i = 0; i < entryCount; i++)
+            {
+                byte[] key = readBytes(buffer);
+                byte[] value = readBytes(buffer);
+                result.add(Map.entry(key, value));
+            }
+            return result;
+        }
+        catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e)
+        {
+            throw new IOException("Truncated snapshot file", e);
+        }
+    }
+
+    private byte[] readBytes(MappedByteBuffer buffer)
+    {
+        byte[] result = new byte[buffer.getInt()];
+        buffer.get(result);
+        return result;
+    }
+}
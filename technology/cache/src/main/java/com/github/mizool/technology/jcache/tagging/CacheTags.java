@@ -0,0 +1,190 @@
+package com.github.mizool.technology.jcache.tagging;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.mizool.core.configuration.Config;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Associates cache entries with tags so that all entries related to e.g. one tenant or aggregate can be invalidated
+ * at once, without clearing whole caches.<br>
+ * <br>
+ * There are two ways to use tags:
+ * <ul>
+ * <li>Put entries with {@link #put(Cache, Object, Object, String...)} and invalidate them with
+ * {@link #invalidateTag(String)}. This removes exactly the tagged entries, i.e. it takes time proportional to their
+ * number.</li>
+ * <li>Include {@link #getGeneration(String)} in the cache key. {@link #invalidateTag(String)} then makes all entries
+ * created with the previous generation unreachable in constant time. They are not removed, but will expire or be
+ * evicted eventually.</li>
+ * </ul>
+ * Entries written concurrently with an invalidation of one of their tags are removed again, so that no stale value
+ * survives the invalidation.<br>
+ * <br>
+ * Tags remember their keys by cache name. The caches are looked up in the application's {@link CacheManager} when
+ * a tag is invalidated. Keys whose entries expired or were evicted are pruned periodically, see the system property
+ * {@code cache.tags.pruneInterval} (default {@code 1 minute}). Tags that were never invalidated are discarded once they
+ * hold no more keys.<br>
+ * <br>
+ * Tag indexes and generations are kept in memory and are local to this JVM. With a distributed cache, invalidating a
+ * tag neither removes entries put by other nodes nor changes the generation seen there.
+ */
+@Slf4j
+@Singleton
+public class CacheTags
+{
+    private static final Duration PRUNE_INTERVAL = Config.systemProperties()
+        .child("cache.tags.pruneInterval")
+        .readableDuration()
+        .read()
+        .orElse(Duration.ofMinutes(1));
+
+    private final Instance<CacheManager> cacheManager;
+
+    private final Map<String, TagIndex> tagIndexes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService pruneExecutor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("cache-tag-prune-%d")
+            .setDaemon(true)
+            .build());
+
+    @Inject
+    public CacheTags(Instance<CacheManager> cacheManager)
+    {
+        this.cacheManager = cacheManager;
+    }
+
+    @PostConstruct
+    void startPruning()
+    {
+        long interval = PRUNE_INTERVAL.toMillis();
+        pruneExecutor.scheduleWithFixedDelay(this::prune, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopPruning()
+    {
+        pruneExecutor.shutdownNow();
+    }
+
+    public <K, V> void put(Cache<K, V> cache, K key, V value, String... tags)
+    {
+        put(cache, key, value, Arrays.asList(tags));
+    }
+
+    public <K, V> void put(
+        @NonNull Cache<K, V> cache, @NonNull K key, @NonNull V value, @NonNull Collection<String> tags)
+    {
+        String cacheName = cache.getName();
+        TagIndex[] indexes = new TagIndex[tags.size()];
+        long[] generations = new long[tags.size()];
+        int position = 0;
+        for (String tag : tags)
+        {
+            int current = position++;
+
+            // Adding the key while holding the map entry ensures that the index is not discarded concurrently
+            indexes[current] = tagIndexes.compute(tag, (t, index) -> {
+                TagIndex result = index == null
+                    ? new TagIndex()
+                    : index;
+                generations[current] = result.add(cacheName, key);
+                return result;
+            });
+        }
+
+        cache.put(key, value);
+
+        for (int i = 0; i < indexes.length; i++)
+        {
+            if (indexes[i].getGeneration() != generations[i])
+            {
+                cache.remove(key);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes all entries that were put with the given tag and advances its generation.
+     */
+    public void invalidateTag(@NonNull String tag)
+    {
+        AtomicReference<Map<String, Map<Object, Long>>> invalidatedKeys = new AtomicReference<>();
+        tagIndexes.compute(tag, (t, index) -> {
+            TagIndex result = index == null
+                ? new TagIndex()
+                : index;
+            invalidatedKeys.set(result.invalidate());
+            return result;
+        });
+
+        for (Map.Entry<String, Map<Object, Long>> entry : invalidatedKeys.get()
+            .entrySet())
+        {
+            Cache<Object, Object> cache = getCache(entry.getKey());
+            if (cache != null)
+            {
+                entry.getValue()
+                    .keySet()
+                    .forEach(cache::remove);
+            }
+        }
+    }
+
+    /**
+     * @return the number of times the given tag has been invalidated, for use in versioned cache keys
+     */
+    public long getGeneration(@NonNull String tag)
+    {
+        TagIndex index = tagIndexes.get(tag);
+        if (index == null)
+        {
+            return 0;
+        }
+        return index.getGeneration();
+    }
+
+    private Cache<Object, Object> getCache(String cacheName)
+    {
+        return cacheManager.get()
+            .getCache(cacheName);
+    }
+
+    private void prune()
+    {
+        try
+        {
+            tagIndexes.values()
+                .forEach(index -> index.prune(this::getCache));
+            tagIndexes.keySet()
+                .forEach(tag -> tagIndexes.computeIfPresent(tag,
+                    (t, index) -> index.isUnused()
+                        ? null
+                        : index));
+        }
+        catch (RuntimeException e)
+        {
+            log.warn("Could not prune cache tags - {}", e.toString());
+            log.debug("Stack trace for warning", e);
+        }
+    }
+}
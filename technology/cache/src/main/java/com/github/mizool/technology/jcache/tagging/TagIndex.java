@@ -0,0 +1,121 @@
+package com.github.mizool.technology.jcache.tagging;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import javax.cache.Cache;
+
+/**
+ * The keys associated with one tag, grouped by cache name. Caches are referenced by name, so that the index does not
+ * keep cache instances alive and different instances of the same cache share their keys.<br>
+ * <br>
+ * The index only knows the keys put through this JVM, so invalidating the tag does not remove entries that other
+ * nodes put into a shared cache.
+ */
+class TagIndex
+{
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Maps each key to the sequence number of its latest registration, so that pruning does not drop keys which were
+     * registered again in the meantime.
+     */
+    private Map<String, Map<Object, Long>> keysByCache = new HashMap<>();
+    private long sequence;
+
+    /**
+     * Keys registered up to this sequence number have been known since the previous pruning, so their entries have
+     * been put by now.
+     */
+    private long prunableSequence;
+
+    public long getGeneration()
+    {
+        return generation.get();
+    }
+
+    /**
+     * @return the generation at the time the key was added
+     */
+    public synchronized long add(String cacheName, Object key)
+    {
+        keysByCache.computeIfAbsent(cacheName, name -> new HashMap<>())
+            .put(key, ++sequence);
+        return generation.get();
+    }
+
+    /**
+     * @return {@code true} if the index neither holds keys nor has been invalidated, so it can be discarded
+     */
+    public synchronized boolean isUnused()
+    {
+        return generation.get() == 0 && keysByCache.isEmpty();
+    }
+
+    /**
+     * Removes the keys whose entries are no longer present, e.g. because they expired or were evicted. Keys registered
+     * since the previous pruning are kept, as their entries may not have been put yet.
+     *
+     * @param cacheResolver returns the cache with the given name, or {@code null} if it no longer exists
+     */
+    public void prune(Function<String, Cache<Object, Object>> cacheResolver)
+    {
+        Map<String, Map<Object, Long>> candidates = getPruneCandidates();
+
+        List<Map.Entry<String, Map.Entry<Object, Long>>> absentKeys = new ArrayList<>();
+        candidates.forEach((cacheName, keys) -> {
+            Cache<Object, Object> cache = cacheResolver.apply(cacheName);
+            keys.entrySet()
+                .stream()
+                .filter(entry -> cache == null || !cache.containsKey(entry.getKey()))
+                .forEach(entry -> absentKeys.add(Map.entry(cacheName, entry)));
+        });
+        removeAbsentKeys(absentKeys);
+    }
+
+    private synchronized Map<String, Map<Object, Long>> getPruneCandidates()
+    {
+        Map<String, Map<Object, Long>> result = new HashMap<>();
+        keysByCache.forEach((cacheName, keys) -> keys.forEach((key, keySequence) -> {
+            if (keySequence <= prunableSequence)
+            {
+                result.computeIfAbsent(cacheName, name -> new HashMap<>())
+                    .put(key, keySequence);
+            }
+        }));
+        prunableSequence = sequence;
+        return result;
+    }
+
+    private synchronized void removeAbsentKeys(List<Map.Entry<String, Map.Entry<Object, Long>>> absentKeys)
+    {
+        for (Map.Entry<String, Map.Entry<Object, Long>> absentKey : absentKeys)
+        {
+            Map<Object, Long> keys = keysByCache.get(absentKey.getKey());
+            Map.Entry<Object, Long> key = absentKey.getValue();
+            if (keys != null)
+            {
+                keys.remove(key.getKey(), key.getValue());
+            }
+        }
+        keysByCache.values()
+            .removeIf(Map::isEmpty);
+    }
+
+    /**
+     * Advances the generation and forgets all keys.
+     *
+     * @return the keys that were associated with the tag, by cache name
+     */
+    public synchronized Map<String, Map<Object, Long>> invalidate()
+    {
+        generation.incrementAndGet();
+        Map<String, Map<Object, Long>> result = keysByCache;
+        keysByCache = new HashMap<>();
+        return result;
+    }
+}
@@ -8,23 +8,30 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 import com.github.mizool.technology.jcache.common.AbstractDelegatingCache;
+import com.github.mizool.technology.jcache.config.CacheOperation;
+import com.github.mizool.technology.jcache.config.CacheTimeouts;
 
 @Slf4j
 class TimeoutingCache<K, V> extends AbstractDelegatingCache<K, V>
 {
     private final TimeoutingExecutor timeoutingExecutor;
+    private final CacheTimeouts cacheTimeouts;
 
-    public TimeoutingCache(@NonNull Cache<K, V> target, @NonNull TimeoutingExecutor timeoutingExecutor)
+    public TimeoutingCache(
+        @NonNull Cache<K, V> target,
+        @NonNull TimeoutingExecutor timeoutingExecutor,
+        @NonNull CacheTimeouts cacheTimeouts)
     {
         super(target);
         this.timeoutingExecutor = timeoutingExecutor;
+        this.cacheTimeouts = cacheTimeouts;
     }
 
     @Override
     public V get(K key)
     {
         Callable<V> callable = () -> getTarget().get(key);
-        V result = timeoutingExecutor.execute(callable);
+        V result = timeoutingExecutor.execute(callable, cacheTimeouts.get(CacheOperation.GET));
         return result;
     }
 
@@ -32,14 +39,14 @@ class TimeoutingCache<K, V> extends AbstractDelegatingCache<K, V>
     public void put(K key, V value)
     {
         Runnable runnable = () -> getTarget().put(key, value);
-        timeoutingExecutor.execute(runnable);
+        timeoutingExecutor.execute(runnable, cacheTimeouts.get(CacheOperation.PUT));
     }
 
     @Override
     public boolean remove(K key)
     {
         Callable<Boolean> callable = () -> getTarget().remove(key);
-        Boolean result = timeoutingExecutor.execute(callable);
+        Boolean result = timeoutingExecutor.execute(callable, cacheTimeouts.get(CacheOperation.REMOVE));
         return result;
     }
 
@@ -47,6 +54,6 @@ class TimeoutingCache<K, V> extends AbstractDelegatingCache<K, V>
     public void removeAll()
     {
         Runnable runnable = getTarget()::removeAll;
-        timeoutingExecutor.execute(runnable);
+        timeoutingExecutor.execute(runnable, cacheTimeouts.get(CacheOperation.REMOVE_ALL));
     }
 }
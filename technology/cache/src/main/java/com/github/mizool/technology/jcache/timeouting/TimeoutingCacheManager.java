@@ -11,17 +11,23 @@ import lombok.extern.slf4j.Slf4j;
 
 import com.github.mizool.core.NonDefault;
 import com.github.mizool.technology.jcache.common.AbstractDelegatingCacheManager;
+import com.github.mizool.technology.jcache.config.CacheOperation;
+import com.github.mizool.technology.jcache.config.CacheCreationRegistry;
+import com.github.mizool.technology.jcache.config.CacheTimeouts;
 
 @Slf4j
 @NonDefault
 public class TimeoutingCacheManager extends AbstractDelegatingCacheManager
 {
     private final TimeoutingExecutor timeoutingExecutor;
+    private final CacheCreationRegistry cacheCreationRegistry;
 
     @Inject
-    public TimeoutingCacheManager(@NonNull TimeoutingExecutor timeoutingExecutor)
+    public TimeoutingCacheManager(
+        @NonNull TimeoutingExecutor timeoutingExecutor, @NonNull CacheCreationRegistry cacheCreationRegistry)
     {
         this.timeoutingExecutor = timeoutingExecutor;
+        this.cacheCreationRegistry = cacheCreationRegistry;
     }
 
     @Override
@@ -29,24 +35,25 @@ public class TimeoutingCacheManager extends AbstractDelegatingCacheManager
         throws IllegalArgumentException
     {
         Callable<Cache<K, V>> cacheCallable = () -> super.createCache(cacheName, configuration);
-        return getTimeoutingCache(cacheCallable);
+        return getTimeoutingCache(cacheName, cacheCallable);
     }
 
     @Override
     public <K, V> Cache<K, V> getCache(String cacheName)
     {
         Callable<Cache<K, V>> cacheCallable = () -> super.getCache(cacheName);
-        return getTimeoutingCache(cacheCallable);
+        return getTimeoutingCache(cacheName, cacheCallable);
     }
 
-    private <K, V> Cache<K, V> getTimeoutingCache(Callable<Cache<K, V>> cacheCallable)
+    private <K, V> Cache<K, V> getTimeoutingCache(String cacheName, Callable<Cache<K, V>> cacheCallable)
     {
         Cache<K, V> result = null;
 
-        Cache<K, V> cache = timeoutingExecutor.execute(cacheCallable);
+        CacheTimeouts cacheTimeouts = cacheCreationRegistry.getTimeouts(cacheName);
+        Cache<K, V> cache = timeoutingExecutor.execute(cacheCallable, cacheTimeouts.get(CacheOperation.OBTAIN));
         if (cache != null)
         {
-            result = new TimeoutingCache<>(cache, timeoutingExecutor);
+            result = new TimeoutingCache<>(cache, timeoutingExecutor, cacheTimeouts);
         }
 
         return result;
@@ -1,32 +1,151 @@
 package com.github.mizool.technology.jcache.timeouting;
 
 import java.time.Duration;
-import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
 
 import com.github.mizool.core.concurrent.Futures;
 import com.github.mizool.core.configuration.Config;
+import com.github.mizool.core.configuration.PropertyNode;
+import com.github.mizool.core.exception.UncheckedInterruptedException;
+import com.github.mizool.technology.jcache.common.MBeans;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedTimeoutException;
 
-public class TimeoutingExecutor
+/**
+ * Executes cache operations on a bounded thread pool, waiting at most the given timeout for each of them. Operations
+ * that time out are cancelled and their thread is interrupted.<br>
+ * <br>
+ * The pool is configured with the system properties {@code cache.executor.threads} (default: number of available
+ * processors) and {@code cache.executor.queueSize} (default: 1000). If the queue is full, operations are rejected with
+ * a {@link RejectedExecutionException} instead of piling up.
+ */
+@Singleton
+public class TimeoutingExecutor implements TimeoutingExecutorMXBean
 {
-    private static final long CACHE_TIMEOUT = Config.systemProperties()
-        .child("cache.timeout")
-        .longValue()
+    private static final PropertyNode CONFIG = Config.systemProperties()
+        .child("cache.executor");
+
+    private static final int THREADS = CONFIG.child("threads")
+        .intValue()
         .read()
-        .orElse(10000L);
+        .orElse(Runtime.getRuntime()
+            .availableProcessors());
+
+    private static final int QUEUE_SIZE = CONFIG.child("queueSize")
+        .intValue()
+        .read()
+        .orElse(1000);
+
+    private static final String OBJECT_NAME = "com.github.mizool.technology.jcache:type=TimeoutingExecutor";
+
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final LongAdder timedOutTasks = new LongAdder();
+    private final ThreadPoolExecutor executorService = createExecutorService();
+
+    private ThreadPoolExecutor createExecutorService()
+    {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(THREADS,
+            THREADS,
+            60,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_SIZE),
+            new ThreadFactoryBuilder().setNameFormat("cache-%d")
+                .setDaemon(true)
+                .build(),
+            (runnable, executor) -> {
+                rejectedTasks.increment();
+                throw new RejectedExecutionException("Cache executor queue is full");
+            });
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
+    @PostConstruct
+    void registerMBean()
+    {
+        MBeans.register(this, OBJECT_NAME);
+    }
+
+    @PreDestroy
+    void shutdown()
+    {
+        MBeans.unregister(OBJECT_NAME);
+        executorService.shutdownNow();
+    }
+
+    public <T> T execute(Callable<T> callable, Duration timeout)
+    {
+        return await(executorService.submit(callable), timeout);
+    }
 
-    private final ExecutorService executorService = Executors.newWorkStealingPool();
+    public void execute(Runnable runnable, Duration timeout)
+    {
+        await(executorService.submit(runnable), timeout);
+    }
+
+    private <T> T await(Future<T> future, Duration timeout)
+    {
+        try
+        {
+            return Futures.get(future, timeout);
+        }
+        catch (UncheckedTimeoutException e)
+        {
+            timedOutTasks.increment();
+            future.cancel(true);
+            throw e;
+        }
+        catch (UncheckedInterruptedException e)
+        {
+            future.cancel(true);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getQueueLength()
+    {
+        return executorService.getQueue()
+            .size();
+    }
+
+    @Override
+    public int getQueueCapacity()
+    {
+        return QUEUE_SIZE;
+    }
+
+    @Override
+    public int getActiveThreads()
+    {
+        return executorService.getActiveCount();
+    }
+
+    @Override
+    public int getMaximumThreads()
+    {
+        return THREADS;
+    }
 
-    public <T> T execute(Callable<T> callable)
+    @Override
+    public long getRejectedTasks()
     {
-        return Futures.get(executorService.submit(callable),
-            Duration.of(TimeoutingExecutor.CACHE_TIMEOUT, ChronoUnit.MILLIS));
+        return rejectedTasks.sum();
     }
 
-    public void execute(Runnable runnable)
+    @Override
+    public long getTimedOutTasks()
     {
-        Futures.get(executorService.submit(runnable), Duration.of(TimeoutingExecutor.CACHE_TIMEOUT, ChronoUnit.MILLIS));
+        return timedOutTasks.sum();
     }
 }
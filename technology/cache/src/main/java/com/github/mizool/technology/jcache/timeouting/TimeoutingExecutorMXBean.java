@@ -0,0 +1,19 @@
+package com.github.mizool.technology.jcache.timeouting;
+
+/**
+ * Exposes the state of the {@link TimeoutingExecutor} via JMX.
+ */
+public interface TimeoutingExecutorMXBean
+{
+    int getQueueLength();
+
+    int getQueueCapacity();
+
+    int getActiveThreads();
+
+    int getMaximumThreads();
+
+    long getRejectedTasks();
+
+    long getTimedOutTasks();
+}
@@ -15,9 +15,11 @@ import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
 import javax.tools.JavaFileObject;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import org.stringtemplate.v4.ST;
@@ -30,7 +32,12 @@ abstract class AbstractTemplateBasedProcessor extends AbstractProcessor
     private final Class<? extends Annotation> annotationClass;
     private final String templateName;
 
+    @Getter(AccessLevel.PROTECTED)
     private Elements elementUtils;
+
+    @Getter(AccessLevel.PROTECTED)
+    private Types typeUtils;
+
     private Filer filer;
 
     @Override
@@ -44,6 +51,7 @@ abstract class AbstractTemplateBasedProcessor extends AbstractProcessor
     {
         super.init(processingEnvironment);
         elementUtils = processingEnvironment.getElementUtils();
+        typeUtils = processingEnvironment.getTypeUtils();
         filer = processingEnvironment.getFiler();
     }
 
@@ -65,7 +73,11 @@ abstract class AbstractTemplateBasedProcessor extends AbstractProcessor
         return true;
     }
 
-    private void verifyElement(Element annotatedElement)
+    /**
+     * Verifies that the annotated element is a public, non-abstract class. Subclasses processing other kinds of
+     * elements override this.
+     */
+    protected void verifyElement(Element annotatedElement)
     {
         String annotationName = annotationClass.getSimpleName();
         if (annotatedElement.getKind() != ElementKind.CLASS)
@@ -106,6 +118,14 @@ abstract class AbstractTemplateBasedProcessor extends AbstractProcessor
             .toString();
         template.add("packageName", packageName);
         template.add("className", className);
+        addTemplateAttributes(template, classElement);
         return template.render();
     }
+
+    /**
+     * Adds attributes to the template in addition to {@code packageName} and {@code className}.
+     */
+    protected void addTemplateAttributes(ST template, TypeElement classElement)
+    {
+    }
 }
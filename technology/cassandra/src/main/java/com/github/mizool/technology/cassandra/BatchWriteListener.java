@@ -0,0 +1,24 @@
+package com.github.mizool.technology.cassandra;
+
+import java.time.Duration;
+
+/**
+ * Receives the outcome of each batch executed by a {@link BatchWriter}.
+ */
+public interface BatchWriteListener
+{
+    /**
+     * @param statementCount the number of statements in the batch
+     * @param latency the time from the first attempt until the batch was written, including retries
+     * @param retries the number of times the batch was retried
+     */
+    void onBatchWritten(int statementCount, Duration latency, int retries);
+
+    /**
+     * @param statementCount the number of statements in the batch
+     * @param latency the time from the first attempt until the last attempt failed
+     * @param retries the number of times the batch was retried
+     * @param throwable the failure of the last attempt
+     */
+    void onBatchFailed(int statementCount, Duration latency, int retries, Throwable throwable);
+}
@@ -0,0 +1,225 @@
+package com.github.mizool.technology.cassandra;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.QueryOptions;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.github.mizool.core.concurrent.FutureStreamJoiner;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Streams;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+
+/**
+ * Writes a stream of entities with as few round trips as possible. Statements are grouped by partition into
+ * {@linkplain BatchStatement.Type#UNLOGGED unlogged} batches, which are executed asynchronously with a bounded number
+ * of batches in flight.<br>
+ * <br>
+ * Grouping happens within windows of {@code windowSize} consecutive statements, so the stream is never consumed as a
+ * whole. Statements without a routing key, e.g. non-prepared ones, are executed individually.<br>
+ * <br>
+ * Batches use the consistency level of their statements. Failed batches are retried up to {@code maxRetries} times
+ * on timeouts and unavailability if their statements are idempotent, either explicitly or by the driver's
+ * {@linkplain QueryOptions#setDefaultIdempotence(boolean) default}.<br>
+ * <br>
+ * Usage example:
+ * <pre>{@code
+ * BatchWriter batchWriter = BatchWriter.builder()
+ *     .session(session)
+ *     .executorService(executorService)
+ *     .build();
+ * batchWriter.write(entities, mapper::saveQuery).get();}</pre>
+ */
+@Builder
+public class BatchWriter
+{
+    /**
+     * Statements are only batched if they target the same partition with the same execution settings.
+     */
+    @Value
+    private static class BatchKey
+    {
+        String keyspace;
+        ByteBuffer routingKey;
+        ConsistencyLevel consistencyLevel;
+        boolean idempotent;
+    }
+
+    @NonNull
+    private final Session session;
+
+    /**
+     * Executes the stream consumer and retries. Must provide at least two threads.
+     */
+    @NonNull
+    private final ExecutorService executorService;
+
+    @Builder.Default
+    private final int maxBatchSize = 20;
+
+    @Builder.Default
+    private final int windowSize = 1000;
+
+    @Builder.Default
+    private final int concurrencyLimit = 16;
+
+    @Builder.Default
+    private final int maxRetries = 2;
+
+    @Builder.Default
+    @NonNull
+    private final BatchWriteListener listener = new LoggingBatchWriteListener();
+
+    /**
+     * Writes the given entities.
+     *
+     * @param entities the entities to write, closed once the returned future completes
+     * @param toStatement creates the write statement for an entity, e.g. {@code mapper::saveQuery}
+     *
+     * @return a future that completes once all entities have been written, or fails with the first failed batch
+     */
+    public <T> StoreLayerFuture<Void> write(@NonNull Stream<T> entities, @NonNull Function<T, Statement> toStatement)
+    {
+        Iterator<List<Statement>> windows = Iterators.partition(entities.map(toStatement)
+            .iterator(), windowSize);
+
+        Stream<ListenableFuture<Void>> batchFutures = Streams.stream(windows)
+            .flatMap(this::toBatches)
+            .map(this::execute);
+
+        ListenableFuture<Void> result = FutureStreamJoiner.listenable()
+            .join(batchFutures, concurrencyLimit, executorService);
+        result.addListener(entities::close, MoreExecutors.directExecutor());
+        return StoreLayerFuture.voided(result);
+    }
+
+    private Stream<List<Statement>> toBatches(List<Statement> window)
+    {
+        Configuration configuration = session.getCluster()
+            .getConfiguration();
+        ProtocolVersion protocolVersion = configuration.getProtocolOptions()
+            .getProtocolVersion();
+        CodecRegistry codecRegistry = configuration.getCodecRegistry();
+        QueryOptions queryOptions = configuration.getQueryOptions();
+
+        Map<BatchKey, List<Statement>> partitions = new LinkedHashMap<>();
+        List<List<Statement>> result = new ArrayList<>();
+        for (Statement statement : window)
+        {
+            ByteBuffer routingKey = statement.getRoutingKey(protocolVersion, codecRegistry);
+            if (routingKey == null)
+            {
+                result.add(List.of(statement));
+            }
+            else
+            {
+                BatchKey batchKey = new BatchKey(statement.getKeyspace(),
+                    routingKey,
+                    statement.getConsistencyLevel(),
+                    isIdempotent(statement, queryOptions));
+                partitions.computeIfAbsent(batchKey, key -> new ArrayList<>())
+                    .add(statement);
+            }
+        }
+
+        for (List<Statement> partition : partitions.values())
+        {
+            result.addAll(Lists.partition(partition, maxBatchSize));
+        }
+        return result.stream();
+    }
+
+    private static boolean isIdempotent(Statement statement, QueryOptions queryOptions)
+    {
+        Boolean idempotent = statement.isIdempotent();
+        if (idempotent == null)
+        {
+            return queryOptions.getDefaultIdempotence();
+        }
+        return idempotent;
+    }
+
+    private ListenableFuture<Void> execute(List<Statement> statements)
+    {
+        QueryOptions queryOptions = session.getCluster()
+            .getConfiguration()
+            .getQueryOptions();
+        boolean retryable = statements.stream()
+            .allMatch(member -> isIdempotent(member, queryOptions));
+
+        Statement statement;
+        if (statements.size() == 1)
+        {
+            statement = statements.get(0);
+        }
+        else
+        {
+            BatchStatement batchStatement = new BatchStatement(BatchStatement.Type.UNLOGGED);
+            batchStatement.addAll(statements);
+            batchStatement.setConsistencyLevel(statements.get(0)
+                .getConsistencyLevel());
+            statement = batchStatement;
+        }
+
+        long start = System.nanoTime();
+        AtomicInteger retries = new AtomicInteger();
+        ListenableFuture<ResultSet> future = executeWithRetries(statement, retryable, retries);
+        Futures.addCallback(future, new FutureCallback<>()
+        {
+            @Override
+            public void onSuccess(ResultSet result)
+            {
+                listener.onBatchWritten(statements.size(), Duration.ofNanos(System.nanoTime() - start), retries.get());
+            }
+
+            @Override
+            public void onFailure(Throwable t)
+            {
+                listener.onBatchFailed(statements.size(),
+                    Duration.ofNanos(System.nanoTime() - start),
+                    retries.get(),
+                    t);
+            }
+        }, MoreExecutors.directExecutor());
+
+        return StoreLayerFuture.voided(future);
+    }
+
+    private ListenableFuture<ResultSet> executeWithRetries(
+        Statement statement, boolean retryable, AtomicInteger retries)
+    {
+        return Futures.catchingAsync(session.executeAsync(statement), DriverException.class, e -> {
+            if (!retryable || retries.get() >= maxRetries || !DriverExceptions.isTransient(e))
+            {
+                return Futures.immediateFailedFuture(e);
+            }
+            retries.incrementAndGet();
+            return executeWithRetries(statement, true, retries);
+        }, executorService);
+    }
+}
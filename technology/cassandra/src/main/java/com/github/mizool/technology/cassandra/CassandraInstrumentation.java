@@ -0,0 +1,228 @@
+package com.github.mizool.technology.cassandra;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.inject.Singleton;
+
+import lombok.Value;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.JmxReporter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistry;
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.LatencyTracker;
+import com.datastax.driver.core.QueryLogger;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.github.mizool.core.configuration.Config;
+import com.github.mizool.core.configuration.PropertyNode;
+
+/**
+ * Publishes the following metrics via JMX in the domain {@value #JMX_DOMAIN}:
+ * <ul>
+ * <li>{@code latency.<keyspace.table>.<operation>}: latency histogram per table and operation (e.g. {@code select},
+ * {@code insert}) as seen by the driver, i.e. once per host that executed the statement</li>
+ * <li>{@code errors.<keyspace.table>.<operation>}: rate of failed executions per table and operation</li>
+ * <li>{@code errors.codeInconsistency} and {@code errors.storeLayer}: number of driver exceptions translated by
+ * {@link StoreLayerFuture}</li>
+ * <li>{@code inFlight.<host>}: number of requests in flight per host</li>
+ * <li>{@code keyspaceCache.<name>.*}: statistics of the caches created by {@link KeyspaceCaches}</li>
+ * </ul>
+ * If the system property {@code technology.cassandra.instrumentation.slowQueryThreshold} is set to a readable
+ * duration, slower queries are logged by the driver's {@link QueryLogger} at {@code DEBUG} level.
+ */
+@Singleton
+class CassandraInstrumentation implements LatencyTracker
+{
+    public static final String JMX_DOMAIN = "com.github.mizool.technology.cassandra";
+
+    private static final PropertyNode CONFIG = Config.systemProperties()
+        .child("technology.cassandra.instrumentation");
+
+    private static final String IDENTIFIER = "(?:\"[^\"]+\"|\\w+)";
+    private static final Pattern TABLE = Pattern.compile("\\b(?:FROM|INTO|UPDATE)\\s+(" +
+        IDENTIFIER +
+        "(?:\\." +
+        IDENTIFIER +
+        ")?)", Pattern.CASE_INSENSITIVE);
+    private static final int MAX_CACHED_QUERIES = 10000;
+    private static final String UNKNOWN = "unknown";
+
+    @Value
+    private static class Target
+    {
+        String table;
+        String operation;
+    }
+
+    private final MetricRegistry registry = new MetricRegistry();
+    private final Map<String, Target> targetsByQuery = new ConcurrentHashMap<>();
+    private final Set<Host> inFlightHosts = ConcurrentHashMap.newKeySet();
+    private final JmxReporter reporter = JmxReporter.forRegistry(registry)
+        .inDomain(JMX_DOMAIN)
+        .convertDurationsTo(TimeUnit.MILLISECONDS)
+        .build();
+
+    private volatile Session session;
+
+    public CassandraInstrumentation()
+    {
+        registry.register("errors.codeInconsistency", (Gauge<Long>) StoreLayerErrors::getCodeInconsistencies);
+        registry.register("errors.storeLayer", (Gauge<Long>) StoreLayerErrors::getStoreLayerFailures);
+    }
+
+    public void register(Cluster cluster)
+    {
+        cluster.register(this);
+        CONFIG.child("slowQueryThreshold")
+            .readableDuration()
+            .read()
+            .ifPresent(threshold -> cluster.register(QueryLogger.builder()
+                .withConstantThreshold(threshold.toMillis())
+                .build()));
+    }
+
+    /**
+     * Enables the {@code inFlight} gauges of the session. They are created for each host once it executed a statement.
+     */
+    public void register(Session session)
+    {
+        this.session = session;
+    }
+
+    /**
+     * Registers an additional metric, replacing any previous one with the same name.
+     */
+    void register(String name, Metric metric)
+    {
+        registry.remove(name);
+        registry.register(name, metric);
+    }
+
+    @Override
+    public void update(Host host, Statement statement, Exception exception, long newLatencyNanos)
+    {
+        Session currentSession = session;
+        if (currentSession != null && inFlightHosts.add(host))
+        {
+            registry.gauge(MetricRegistry.name("inFlight", host.toString()),
+                () -> () -> currentSession.getState()
+                    .getInFlightQueries(host));
+        }
+
+        Target target = getTarget(statement);
+        if (exception == null)
+        {
+            registry.timer(MetricRegistry.name("latency", target.getTable(), target.getOperation()))
+                .update(newLatencyNanos, TimeUnit.NANOSECONDS);
+        }
+        else
+        {
+            registry.meter(MetricRegistry.name("errors", target.getTable(), target.getOperation()))
+                .mark();
+        }
+    }
+
+    private Target getTarget(Statement statement)
+    {
+        if (statement instanceof BatchStatement)
+        {
+            return new Target(getFirstTable((BatchStatement) statement), "batch");
+        }
+
+        String query = getQueryString(statement);
+        if (query == null)
+        {
+            return new Target(UNKNOWN, UNKNOWN);
+        }
+
+        Target target = targetsByQuery.get(query);
+        if (target == null)
+        {
+            target = parse(query);
+            if (targetsByQuery.size() < MAX_CACHED_QUERIES)
+            {
+                targetsByQuery.put(query, target);
+            }
+        }
+
+        String table = target.getTable();
+        String keyspace = statement.getKeyspace();
+        if (keyspace != null && !table.equals(UNKNOWN) && table.indexOf('.') < 0)
+        {
+            target = new Target(keyspace + "." + table, target.getOperation());
+        }
+        return target;
+    }
+
+    private String getFirstTable(BatchStatement batch)
+    {
+        return batch.getStatements()
+            .stream()
+            .findFirst()
+            .map(this::getTarget)
+            .map(Target::getTable)
+            .orElse(UNKNOWN);
+    }
+
+    private static String getQueryString(Statement statement)
+    {
+        if (statement instanceof BoundStatement)
+        {
+            return ((BoundStatement) statement).preparedStatement()
+                .getQueryString();
+        }
+        if (statement instanceof RegularStatement)
+        {
+            return ((RegularStatement) statement).getQueryString();
+        }
+        return null;
+    }
+
+    private static Target parse(String query)
+    {
+        String trimmed = query.trim();
+        int operationEnd = 0;
+        while (operationEnd < trimmed.length() && Character.isLetter(trimmed.charAt(operationEnd)))
+        {
+            operationEnd++;
+        }
+        String operation = operationEnd > 0
+            ? trimmed.substring(0, operationEnd)
+            .toLowerCase(Locale.ROOT)
+            : UNKNOWN;
+
+        Matcher matcher = TABLE.matcher(trimmed);
+        String table = UNKNOWN;
+        if (matcher.find())
+        {
+            table = matcher.group(1)
+                .replace("\"", "");
+        }
+
+        return new Target(table, operation);
+    }
+
+    @Override
+    public void onRegister(Cluster cluster)
+    {
+        reporter.start();
+    }
+
+    @Override
+    public void onUnregister(Cluster cluster)
+    {
+        reporter.stop();
+    }
+}
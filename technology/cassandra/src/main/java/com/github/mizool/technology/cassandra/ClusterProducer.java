@@ -10,9 +10,12 @@ class ClusterProducer
 {
     @Produces
     @Singleton
-    public Cluster produce(Cluster.Initializer initializer)
+    public Cluster produce(Cluster.Initializer initializer, CassandraInstrumentation instrumentation)
     {
-        return Cluster.buildFrom(initializer).init();
+        Cluster cluster = Cluster.buildFrom(new ConfiguredClusterInitializer(initializer))
+            .init();
+        instrumentation.register(cluster);
+        return cluster;
     }
 
     public void dispose(@Disposes Cluster cluster)
@@ -0,0 +1,169 @@
+package com.github.mizool.technology.cassandra;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import lombok.RequiredArgsConstructor;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.EndPoint;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.HostDistance;
+import com.datastax.driver.core.PoolingOptions;
+import com.datastax.driver.core.SocketOptions;
+import com.datastax.driver.core.policies.ConstantSpeculativeExecutionPolicy;
+import com.datastax.driver.core.policies.Policies;
+import com.github.mizool.core.configuration.Config;
+import com.github.mizool.core.configuration.PropertyNode;
+
+/**
+ * Applies the following system properties to the configuration of the application's {@link Cluster.Initializer}.
+ * Settings which are not configured are left as the initializer defines them.
+ * <ul>
+ * <li>{@code technology.cassandra.pooling.local.coreConnections}, {@code maxConnections} and
+ * {@code maxRequestsPerConnection}: connection pool of each host in the local datacenter. The same properties below
+ * {@code technology.cassandra.pooling.remote} apply to hosts in remote datacenters.</li>
+ * <li>{@code technology.cassandra.fetchSize}: default fetch size of statements.</li>
+ * <li>{@code technology.cassandra.socket.connectTimeout} and {@code readTimeout}: socket timeouts as readable
+ * durations, e.g. {@code 5 seconds}.</li>
+ * <li>{@code technology.cassandra.speculativeExecution.delay}: if set, idempotent statements are sent to another host
+ * when a host did not respond within this duration. {@code technology.cassandra.speculativeExecution.maxExecutions}
+ * limits the number of these additional executions, default 1.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+class ConfiguredClusterInitializer implements Cluster.Initializer
+{
+    private static final PropertyNode CONFIG = Config.systemProperties()
+        .child("technology.cassandra");
+
+    private static final int DEFAULT_SPECULATIVE_EXECUTIONS = 1;
+
+    private final Cluster.Initializer delegate;
+
+    @Override
+    public String getClusterName()
+    {
+        return delegate.getClusterName();
+    }
+
+    @Override
+    public List<EndPoint> getContactPoints()
+    {
+        return delegate.getContactPoints();
+    }
+
+    @Override
+    public Configuration getConfiguration()
+    {
+        Configuration configuration = delegate.getConfiguration();
+
+        configurePooling(configuration.getPoolingOptions(), HostDistance.LOCAL);
+        configurePooling(configuration.getPoolingOptions(), HostDistance.REMOTE);
+        configureSockets(configuration.getSocketOptions());
+        CONFIG.child("fetchSize")
+            .intValue()
+            .read()
+            .ifPresent(configuration.getQueryOptions()::setFetchSize);
+
+        return Configuration.builder()
+            .withPolicies(configurePolicies(configuration.getPolicies()))
+            .withProtocolOptions(configuration.getProtocolOptions())
+            .withPoolingOptions(configuration.getPoolingOptions())
+            .withSocketOptions(configuration.getSocketOptions())
+            .withMetricsOptions(configuration.getMetricsOptions())
+            .withQueryOptions(configuration.getQueryOptions())
+            .withThreadingOptions(configuration.getThreadingOptions())
+            .withNettyOptions(configuration.getNettyOptions())
+            .withCodecRegistry(configuration.getCodecRegistry())
+            .withDefaultKeyspace(configuration.getDefaultKeyspace())
+            .build();
+    }
+
+    private void configurePooling(PoolingOptions poolingOptions, HostDistance distance)
+    {
+        PropertyNode node = CONFIG.child("pooling")
+            .child(distance.name()
+                .toLowerCase(Locale.ROOT));
+
+        Optional<Integer> coreConnections = node.child("coreConnections")
+            .intValue()
+            .read();
+        Optional<Integer> maxConnections = node.child("maxConnections")
+            .intValue()
+            .read();
+        if (coreConnections.isPresent() && maxConnections.isPresent())
+        {
+            poolingOptions.setConnectionsPerHost(distance, coreConnections.get(), maxConnections.get());
+        }
+        else
+        {
+            /*
+             * Set individually, as the driver leaves the other value unset until it knows the protocol version and
+             * then chooses a default that fits. setConnectionsPerHost() would reject the unset value.
+             */
+            coreConnections.ifPresent(value -> poolingOptions.setCoreConnectionsPerHost(distance, value));
+            maxConnections.ifPresent(value -> poolingOptions.setMaxConnectionsPerHost(distance, value));
+        }
+
+        node.child("maxRequestsPerConnection")
+            .intValue()
+            .read()
+            .ifPresent(value -> poolingOptions.setMaxRequestsPerConnection(distance, value));
+    }
+
+    private void configureSockets(SocketOptions socketOptions)
+    {
+        PropertyNode node = CONFIG.child("socket");
+        node.child("connectTimeout")
+            .readableDuration()
+            .read()
+            .ifPresent(value -> socketOptions.setConnectTimeoutMillis(toMillis(value)));
+        node.child("readTimeout")
+            .readableDuration()
+            .read()
+            .ifPresent(value -> socketOptions.setReadTimeoutMillis(toMillis(value)));
+    }
+
+    private Policies configurePolicies(Policies policies)
+    {
+        PropertyNode node = CONFIG.child("speculativeExecution");
+        Optional<Duration> delay = node.child("delay")
+            .readableDuration()
+            .read();
+        if (delay.isEmpty())
+        {
+            return policies;
+        }
+
+        int maxExecutions = node.child("maxExecutions")
+            .intValue()
+            .read()
+            .orElse(DEFAULT_SPECULATIVE_EXECUTIONS);
+        return Policies.builder()
+            .withLoadBalancingPolicy(policies.getLoadBalancingPolicy())
+            .withReconnectionPolicy(policies.getReconnectionPolicy())
+            .withRetryPolicy(policies.getRetryPolicy())
+            .withAddressTranslator(policies.getAddressTranslator())
+            .withTimestampGenerator(policies.getTimestampGenerator())
+            .withSpeculativeExecutionPolicy(new ConstantSpeculativeExecutionPolicy(delay.get()
+                .toMillis(), maxExecutions))
+            .withEndPointFactory(policies.getEndPointFactory())
+            .build();
+    }
+
+    private static int toMillis(Duration duration)
+    {
+        return Math.toIntExact(duration.toMillis());
+    }
+
+    @Override
+    public Collection<Host.StateListener> getInitialListeners()
+    {
+        return delegate.getInitialListeners();
+    }
+}
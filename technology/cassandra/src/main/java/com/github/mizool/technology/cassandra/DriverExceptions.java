@@ -0,0 +1,27 @@
+package com.github.mizool.technology.cassandra;
+
+import lombok.experimental.UtilityClass;
+
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import com.datastax.driver.core.exceptions.OperationTimedOutException;
+import com.datastax.driver.core.exceptions.OverloadedException;
+import com.datastax.driver.core.exceptions.ReadTimeoutException;
+import com.datastax.driver.core.exceptions.UnavailableException;
+import com.datastax.driver.core.exceptions.WriteTimeoutException;
+
+@UtilityClass
+class DriverExceptions
+{
+    /**
+     * @return {@code true} if the failed request may succeed when retried, e.g. after a timeout
+     */
+    public boolean isTransient(Throwable throwable)
+    {
+        return throwable instanceof ReadTimeoutException ||
+            throwable instanceof WriteTimeoutException ||
+            throwable instanceof UnavailableException ||
+            throwable instanceof OverloadedException ||
+            throwable instanceof OperationTimedOutException ||
+            throwable instanceof NoHostAvailableException;
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.mizool.technology.cassandra;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.TableMetadata;
+
+/**
+ * Converts between rows and entities without reflection. Implementations are generated at compile time for classes
+ * annotated with {@link MapperProducer} or {@link MapperFactoryProducer} and produced next to the corresponding
+ * {@link com.datastax.driver.mapping.Mapper}, which remains responsible for everything else (e.g. registering codecs
+ * of user defined types).<br>
+ * <br>
+ * Codecs are only generated for entities with a public no-arg constructor and public getters and setters for all
+ * mapped properties. Enum properties are stored by name.
+ */
+public interface EntityCodec<T>
+{
+    TableMetadata getTableMetadata();
+
+    /**
+     * Creates an entity from a row. Properties whose columns are not part of the row, e.g. because it is the result of
+     * a projection, keep the values assigned by the no-arg constructor.
+     */
+    T fromRow(Row row);
+
+    /**
+     * Binds all mapped properties of the entity to an {@code INSERT} statement, equivalent to
+     * {@link com.datastax.driver.mapping.Mapper#saveQuery(Object)} with default options.
+     */
+    BoundStatement saveQuery(T entity);
+}
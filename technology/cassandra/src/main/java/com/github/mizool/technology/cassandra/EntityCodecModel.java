@@ -0,0 +1,347 @@
+package com.github.mizool.technology.cassandra;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+import lombok.Value;
+
+import com.datastax.driver.mapping.annotations.Column;
+import com.datastax.driver.mapping.annotations.Computed;
+import com.datastax.driver.mapping.annotations.Transient;
+
+/**
+ * Describes the properties of an entity for the generated {@link EntityCodec}. Entities that cannot be handled without
+ * reflection yield no model, and a warning explains why.
+ */
+@Value
+class EntityCodecModel
+{
+    private static final Map<TypeKind, String> ROW_GETTERS = Map.of(TypeKind.BOOLEAN,
+        "getBool",
+        TypeKind.BYTE,
+        "getByte",
+        TypeKind.SHORT,
+        "getShort",
+        TypeKind.INT,
+        "getInt",
+        TypeKind.LONG,
+        "getLong",
+        TypeKind.FLOAT,
+        "getFloat",
+        TypeKind.DOUBLE,
+        "getDouble");
+
+    @Value
+    public static class Property
+    {
+        int index;
+        String column;
+        String type;
+        /**
+         * Reads the property, e.g. {@code getName()} or {@code name} for public fields.
+         */
+        String getter;
+
+        /**
+         * Writes the property when followed by the value and a closing parenthesis, e.g. {@code setName(} or
+         * {@code name = (} for public fields.
+         */
+        String assignment;
+
+        String rowGetter;
+        boolean enumeration;
+
+        public String getRowSetter()
+        {
+            return rowGetter == null ? null : "set" + rowGetter.substring(3);
+        }
+
+        /**
+         * @return whether the value is read and bound via a {@code TypeToken}
+         */
+        public boolean isGeneric()
+        {
+            return rowGetter == null && !enumeration;
+        }
+    }
+
+    List<Property> properties;
+
+    public String getColumns()
+    {
+        return properties.stream()
+            .map(Property::getColumn)
+            .collect(Collectors.joining(","));
+    }
+
+    public String getBindMarkers()
+    {
+        return properties.stream()
+            .map(property -> "?")
+            .collect(Collectors.joining(","));
+    }
+
+    public static Optional<EntityCodecModel> of(
+        TypeElement classElement, Elements elements, Types types, Messager messager)
+    {
+        try
+        {
+            return Optional.of(new EntityCodecModel(createProperties(classElement, elements, types)));
+        }
+        catch (UnsupportedEntityException e)
+        {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                "No " + EntityCodec.class.getSimpleName() + " generated: " + e.getMessage(),
+                classElement);
+            return Optional.empty();
+        }
+    }
+
+    private static List<Property> createProperties(TypeElement classElement, Elements elements, Types types)
+    {
+        verifyNoArgConstructor(classElement);
+
+        List<ExecutableElement> methods = ElementFilter.methodsIn(elements.getAllMembers(classElement));
+        List<Property> result = new ArrayList<>();
+        for (VariableElement field : getFields(classElement))
+        {
+            if (isMapped(field))
+            {
+                result.add(createProperty(result.size(), field, methods, types));
+            }
+        }
+        if (result.isEmpty())
+        {
+            throw new UnsupportedEntityException("no mapped properties");
+        }
+        return result;
+    }
+
+    private static void verifyNoArgConstructor(TypeElement classElement)
+    {
+        boolean found = ElementFilter.constructorsIn(classElement.getEnclosedElements())
+            .stream()
+            .anyMatch(constructor -> constructor.getParameters()
+                .isEmpty() &&
+                constructor.getModifiers()
+                    .contains(Modifier.PUBLIC));
+        if (!found)
+        {
+            throw new UnsupportedEntityException("no public no-arg constructor");
+        }
+    }
+
+    /**
+     * @return the fields of the class and its superclasses, those of the topmost superclass first
+     */
+    private static List<VariableElement> getFields(TypeElement classElement)
+    {
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        TypeElement current = classElement;
+        while (current != null &&
+            !current.getQualifiedName()
+                .contentEquals(Object.class.getName()))
+        {
+            hierarchy.push(current);
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                ? (TypeElement) ((DeclaredType) superclass).asElement()
+                : null;
+        }
+
+        List<VariableElement> result = new ArrayList<>();
+        for (TypeElement type : hierarchy)
+        {
+            result.addAll(ElementFilter.fieldsIn(type.getEnclosedElements()));
+        }
+        return result;
+    }
+
+    private static boolean isMapped(VariableElement field)
+    {
+        return !field.getModifiers()
+            .contains(Modifier.STATIC) &&
+            !field.getModifiers()
+                .contains(Modifier.TRANSIENT) &&
+            field.getAnnotation(Transient.class) == null &&
+            field.getAnnotation(Computed.class) == null;
+    }
+
+    private static Property createProperty(
+        int index, VariableElement field, List<ExecutableElement> methods, Types types)
+    {
+        String name = field.getSimpleName()
+            .toString();
+        if (hasCustomCodec(field))
+        {
+            throw new UnsupportedEntityException("property " + name + " uses a custom codec");
+        }
+
+        TypeMirror type = field.asType();
+        String capitalizedName = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        String getter = getGetter(field, name, capitalizedName, methods);
+        String assignment = getAssignment(field, name, capitalizedName, methods);
+
+        String boxedType = type.getKind()
+            .isPrimitive()
+            ? types.boxedClass(types.getPrimitiveType(type.getKind()))
+            .getQualifiedName()
+            .toString()
+            : type.toString();
+        boolean enumeration = type.getKind() == TypeKind.DECLARED &&
+            types.asElement(type)
+                .getKind() == ElementKind.ENUM;
+
+        return new Property(index,
+            getColumn(field),
+            boxedType,
+            getter,
+            assignment,
+            ROW_GETTERS.get(type.getKind()),
+            enumeration);
+    }
+
+    private static String getColumn(VariableElement field)
+    {
+        String result = field.getSimpleName()
+            .toString();
+        Column column = field.getAnnotation(Column.class);
+        if (column != null)
+        {
+            if (!column.name()
+                .isEmpty())
+            {
+                result = column.name();
+            }
+            if (column.caseSensitive())
+            {
+                // Quoted for CQL, escaped for the Java string literal in the generated code
+                result = "\\\"" + result + "\\\"";
+            }
+        }
+        return result;
+    }
+
+    private static boolean hasCustomCodec(Element field)
+    {
+        for (AnnotationMirror annotation : field.getAnnotationMirrors())
+        {
+            String annotationType = annotation.getAnnotationType()
+                .toString();
+            if (annotationType.equals(Column.class.getName()) ||
+                annotationType.equals(com.datastax.driver.mapping.annotations.Field.class.getName()))
+            {
+                boolean codecSpecified = annotation.getElementValues()
+                    .keySet()
+                    .stream()
+                    .anyMatch(element -> element.getSimpleName()
+                        .contentEquals("codec"));
+                if (codecSpecified)
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String getGetter(
+        VariableElement field, String name, String capitalizedName, List<ExecutableElement> methods)
+    {
+        String lombokGetter = (field.asType()
+            .getKind() == TypeKind.BOOLEAN ? "is" : "get") + capitalizedName;
+        return findMethod(methods, 0, "get" + capitalizedName, "is" + capitalizedName)
+            .or(() -> generatedByLombok(field, lombokGetter, "lombok.Getter", "lombok.Data", "lombok.Value"))
+            .map(method -> method + "()")
+            .or(() -> isPublic(field) ? Optional.of(name) : Optional.empty())
+            .orElseThrow(() -> new UnsupportedEntityException("property " + name + " has no public getter"));
+    }
+
+    private static String getAssignment(
+        VariableElement field, String name, String capitalizedName, List<ExecutableElement> methods)
+    {
+        boolean modifiable = !field.getModifiers()
+            .contains(Modifier.FINAL);
+        return findMethod(methods, 1, "set" + capitalizedName)
+            .or(() -> modifiable
+                ? generatedByLombok(field, "set" + capitalizedName, "lombok.Setter", "lombok.Data")
+                : Optional.empty())
+            .map(method -> method + "(")
+            .or(() -> modifiable && isPublic(field) ? Optional.of(name + " = (") : Optional.empty())
+            .orElseThrow(() -> new UnsupportedEntityException("property " + name + " has no public setter"));
+    }
+
+    /**
+     * Lombok adds accessors while annotation processing is in progress, so they may not be visible yet.
+     */
+    private static Optional<String> generatedByLombok(VariableElement field, String method, String... annotations)
+    {
+        Set<String> annotationNames = Set.of(annotations);
+        boolean annotated = Stream.concat(field.getAnnotationMirrors()
+                    .stream(),
+                field.getEnclosingElement()
+                    .getAnnotationMirrors()
+                    .stream())
+            .map(annotation -> annotation.getAnnotationType()
+                .toString())
+            .anyMatch(annotationNames::contains);
+        return annotated ? Optional.of(method) : Optional.empty();
+    }
+
+    private static boolean isPublic(VariableElement field)
+    {
+        return field.getModifiers()
+            .contains(Modifier.PUBLIC);
+    }
+
+    private static Optional<String> findMethod(List<ExecutableElement> methods, int parameterCount, String... names)
+    {
+        for (String name : names)
+        {
+            for (ExecutableElement method : methods)
+            {
+                if (method.getSimpleName()
+                    .contentEquals(name) &&
+                    method.getParameters()
+                        .size() == parameterCount &&
+                    method.getModifiers()
+                        .contains(Modifier.PUBLIC))
+                {
+                    return Optional.of(name);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static class UnsupportedEntityException extends RuntimeException
+    {
+        UnsupportedEntityException(String message)
+        {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.github.mizool.technology.cassandra;
+
+public enum EntityOperation
+{
+    READ,
+    SAVE,
+    DELETE
+}
@@ -0,0 +1,44 @@
+package com.github.mizool.technology.cassandra;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Bounded cache of per-keyspace objects like codecs or prepared statements, created by {@link KeyspaceCaches}.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class KeyspaceCache<V>
+{
+    private final LoadingCache<String, V> cache;
+
+    /**
+     * Returns the cached value for the keyspace, creating it if necessary. Exceptions of the loader are propagated
+     * unwrapped.
+     */
+    public V get(String keyspace)
+    {
+        try
+        {
+            return cache.getUnchecked(keyspace);
+        }
+        catch (UncheckedExecutionException e)
+        {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    public void invalidate(String keyspace)
+    {
+        cache.invalidate(keyspace);
+    }
+
+    public void invalidateAll()
+    {
+        cache.invalidateAll();
+    }
+}
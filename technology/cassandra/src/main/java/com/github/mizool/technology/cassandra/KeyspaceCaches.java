@@ -0,0 +1,77 @@
+package com.github.mizool.technology.cassandra;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.github.mizool.core.configuration.Config;
+import com.github.mizool.core.configuration.PropertyNode;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Creates {@link KeyspaceCache} instances configured by the following system properties:
+ * <ul>
+ * <li>{@code technology.cassandra.keyspaceCache.maxSize}: maximum number of keyspaces per cache, default 1000</li>
+ * <li>{@code technology.cassandra.keyspaceCache.expireAfterAccess}: readable duration after which unused keyspaces
+ * are dropped, default 1 hour</li>
+ * </ul>
+ * Hits, misses, evictions and the size of each cache are published by {@link CassandraInstrumentation} as
+ * {@code keyspaceCache.<name>.*}.<br>
+ * <br>
+ * Evicting a value only frees memory if nothing else references it. This rules out mappers: the driver's
+ * {@link com.datastax.driver.mapping.MappingManager} keeps every mapper it creates for the lifetime of the session,
+ * so the generated {@link MapperFactory} implementations cache only their {@link EntityCodec codecs} and the
+ * statements prepared by them.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor = @__(@Inject), access = AccessLevel.PROTECTED)
+public class KeyspaceCaches
+{
+    private static final PropertyNode CONFIG = Config.systemProperties()
+        .child("technology.cassandra.keyspaceCache");
+
+    private static final long MAX_SIZE = CONFIG.child("maxSize")
+        .longValue()
+        .read()
+        .orElse(1000L);
+
+    private static final Duration EXPIRE_AFTER_ACCESS = CONFIG.child("expireAfterAccess")
+        .readableDuration()
+        .read()
+        .orElse(Duration.ofHours(1));
+
+    private final CassandraInstrumentation instrumentation;
+
+    public <V> KeyspaceCache<V> create(@NonNull String name, @NonNull Function<String, V> loader)
+    {
+        LoadingCache<String, V> cache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .recordStats()
+            .build(CacheLoader.from(loader::apply));
+
+        String prefix = MetricRegistry.name("keyspaceCache", name);
+        instrumentation.register(MetricRegistry.name(prefix, "hits"),
+            (Gauge<Long>) () -> cache.stats()
+                .hitCount());
+        instrumentation.register(MetricRegistry.name(prefix, "misses"),
+            (Gauge<Long>) () -> cache.stats()
+                .missCount());
+        instrumentation.register(MetricRegistry.name(prefix, "evictions"),
+            (Gauge<Long>) () -> cache.stats()
+                .evictionCount());
+        instrumentation.register(MetricRegistry.name(prefix, "size"), (Gauge<Long>) cache::size);
+
+        return new KeyspaceCache<>(cache);
+    }
+}
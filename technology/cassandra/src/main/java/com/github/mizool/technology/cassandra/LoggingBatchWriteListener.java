@@ -0,0 +1,28 @@
+package com.github.mizool.technology.cassandra;
+
+import java.time.Duration;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class LoggingBatchWriteListener implements BatchWriteListener
+{
+    @Override
+    public void onBatchWritten(int statementCount, Duration latency, int retries)
+    {
+        log.debug("Wrote batch of {} statements in {} ms with {} retries",
+            statementCount,
+            latency.toMillis(),
+            retries);
+    }
+
+    @Override
+    public void onBatchFailed(int statementCount, Duration latency, int retries, Throwable throwable)
+    {
+        log.warn("Batch of {} statements failed after {} ms and {} retries",
+            statementCount,
+            latency.toMillis(),
+            retries,
+            throwable);
+    }
+}
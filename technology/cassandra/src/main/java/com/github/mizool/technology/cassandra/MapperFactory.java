@@ -5,4 +5,12 @@ import com.datastax.driver.mapping.Mapper;
 public interface MapperFactory<T>
 {
     Mapper<T> getMapper(String keyspace);
-}
\ No newline at end of file
+
+    /**
+     * @throws UnsupportedOperationException if no codec was generated for the entity, see {@link EntityCodec}
+     */
+    default EntityCodec<T> getCodec(String keyspace)
+    {
+        throw new UnsupportedOperationException("No codec available");
+    }
+}
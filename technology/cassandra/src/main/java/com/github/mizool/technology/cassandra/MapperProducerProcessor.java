@@ -3,8 +3,10 @@ package com.github.mizool.technology.cassandra;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
 
 import org.kohsuke.MetaInfServices;
+import org.stringtemplate.v4.ST;
 
 @SupportedSourceVersion(SourceVersion.RELEASE_11)
 @MetaInfServices(value = Processor.class)
@@ -14,4 +16,11 @@ public class MapperProducerProcessor extends AbstractTemplateBasedProcessor
     {
         super(MapperProducer.class, "mapperProducerGenerator.stg");
     }
+
+    @Override
+    protected void addTemplateAttributes(ST template, TypeElement classElement)
+    {
+        EntityCodecModel.of(classElement, getElementUtils(), getTypeUtils(), processingEnv.getMessager())
+            .ifPresent(codec -> template.add("codec", codec));
+    }
 }
@@ -0,0 +1,181 @@
+package com.github.mizool.technology.cassandra;
+
+import java.util.Spliterator;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.mapping.Mapper;
+import com.datastax.driver.mapping.Result;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Turns paged query results into streams which fetch the next page in the background while the current one is being
+ * consumed. Plain iteration of a {@link ResultSet} or {@link Result} only fetches the next page once the current one is
+ * exhausted, so consumers alternate between processing and waiting for the network.<br>
+ * <br>
+ * The next page is requested as soon as fewer than {@code prefetchThreshold} rows of the current page remain. Closing
+ * the stream cancels a pending fetch. Usage example:
+ * <pre>{@code
+ * PrefetchingStreams prefetchingStreams = PrefetchingStreams.builder()
+ *     .fetchSize(500)
+ *     .build();
+ * try (Stream<MyEntity> entities = prefetchingStreams.query(session, statement, mapper))
+ * {
+ *     entities.forEach(...);
+ * }}</pre>
+ */
+@Builder
+public class PrefetchingStreams
+{
+    @RequiredArgsConstructor
+    private static final class PrefetchingSpliterator<T> implements Spliterator<T>
+    {
+        private final IntSupplier availableWithoutFetching;
+        private final BooleanSupplier fullyFetched;
+        private final Supplier<ListenableFuture<?>> fetchMoreResults;
+        private final Supplier<T> next;
+        private final int prefetchThreshold;
+
+        private ListenableFuture<?> pendingFetch;
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action)
+        {
+            int available = availableWithoutFetching.getAsInt();
+            if (available <= prefetchThreshold && !fullyFetched.getAsBoolean() && !isFetching())
+            {
+                pendingFetch = fetchMoreResults.get();
+            }
+
+            if (available == 0 && fullyFetched.getAsBoolean())
+            {
+                return false;
+            }
+
+            // Blocks until the pending page arrives if the current one is exhausted
+            T value = next.get();
+            if (value == null)
+            {
+                return false;
+            }
+
+            action.accept(value);
+            return true;
+        }
+
+        private boolean isFetching()
+        {
+            return pendingFetch != null && !pendingFetch.isDone();
+        }
+
+        public void cancel()
+        {
+            if (isFetching())
+            {
+                pendingFetch.cancel(true);
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit()
+        {
+            return null;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+    }
+
+    @Builder.Default
+    private final int fetchSize = 1000;
+
+    /**
+     * Defaults to a quarter of the fetch size.
+     */
+    private final Integer prefetchThreshold;
+
+    /**
+     * Executes the statement with the configured fetch size and streams the resulting rows.
+     */
+    public Stream<Row> query(@NonNull Session session, @NonNull Statement statement)
+    {
+        return stream(session.execute(statement.setFetchSize(fetchSize)));
+    }
+
+    /**
+     * Executes the statement with the configured fetch size and streams the resulting entities.
+     */
+    public <T> Stream<T> query(@NonNull Session session, @NonNull Statement statement, @NonNull Mapper<T> mapper)
+    {
+        return stream(mapper.map(session.execute(statement.setFetchSize(fetchSize))));
+    }
+
+    /**
+     * Executes the statement with the configured fetch size and streams the resulting entities.
+     */
+    public <T> Stream<T> query(@NonNull Session session, @NonNull Statement statement, @NonNull EntityCodec<T> codec)
+    {
+        return query(session, statement)
+            .map(codec::fromRow);
+    }
+
+    /**
+     * Streams the rows of an already executed query. Its fetch size was determined by the statement.
+     */
+    public Stream<Row> stream(@NonNull ResultSet resultSet)
+    {
+        return stream(new PrefetchingSpliterator<>(resultSet::getAvailableWithoutFetching,
+            resultSet::isFullyFetched,
+            resultSet::fetchMoreResults,
+            resultSet::one,
+            getPrefetchThreshold()));
+    }
+
+    /**
+     * Streams the entities of an already executed query. Its fetch size was determined by the statement.
+     */
+    public <T> Stream<T> stream(@NonNull Result<T> result)
+    {
+        return stream(new PrefetchingSpliterator<>(result::getAvailableWithoutFetching,
+            result::isFullyFetched,
+            result::fetchMoreResults,
+            result::one,
+            getPrefetchThreshold()));
+    }
+
+    private <T> Stream<T> stream(PrefetchingSpliterator<T> spliterator)
+    {
+        return StreamSupport.stream(spliterator, false)
+            .onClose(spliterator::cancel);
+    }
+
+    private int getPrefetchThreshold()
+    {
+        if (prefetchThreshold != null)
+        {
+            return prefetchThreshold;
+        }
+        return fetchSize / 4;
+    }
+}
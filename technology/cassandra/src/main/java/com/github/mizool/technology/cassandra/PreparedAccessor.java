@@ -0,0 +1,43 @@
+package com.github.mizool.technology.cassandra;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.mapping.annotations.Query;
+import com.datastax.driver.mapping.annotations.QueryParameters;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Generates a CDI bean implementing the annotated interface. Each method of the interface must be annotated with
+ * {@link Query}; its statement is prepared once when the bean is created, and each call binds the method parameters
+ * by index and executes the statement.<br>
+ * <br>
+ * Supported return types are {@code StoreLayerFuture<Void>}, {@code StoreLayerFuture<ResultSet>},
+ * {@link ResultSetFuture}, {@code ListenableFuture<ResultSet>} (all executed asynchronously) and {@link ResultSet}
+ * (executed synchronously). Unless {@link QueryParameters#consistency()} specifies otherwise, statements use
+ * {@link DefaultConsistencyLevel#READ} for {@code SELECT} and {@link DefaultConsistencyLevel#WRITE} for other
+ * statements. {@link QueryParameters#fetchSize()} and {@link QueryParameters#idempotent()} are supported as well.<br>
+ * <br>
+ * Example:
+ * <pre>{@code
+ * @PreparedAccessor
+ * public interface UserAccessor
+ * {
+ *     @Query("SELECT * FROM users WHERE tenant = ?")
+ *     ListenableFuture<ResultSet> findByTenant(String tenant);
+ *
+ *     @Query("UPDATE users SET last_login = ? WHERE id = ?")
+ *     StoreLayerFuture<Void> updateLastLogin(Instant lastLogin, UUID id);
+ * }}</pre>
+ *
+ * @see ListenableFuture
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface PreparedAccessor
+{
+}
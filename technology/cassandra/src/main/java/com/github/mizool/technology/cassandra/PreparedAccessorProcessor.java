@@ -0,0 +1,212 @@
+package com.github.mizool.technology.cassandra;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+import lombok.Value;
+
+import org.kohsuke.MetaInfServices;
+import org.stringtemplate.v4.ST;
+
+import com.datastax.driver.mapping.annotations.Query;
+import com.datastax.driver.mapping.annotations.QueryParameters;
+
+@SupportedSourceVersion(SourceVersion.RELEASE_11)
+@MetaInfServices(value = Processor.class)
+public class PreparedAccessorProcessor extends AbstractTemplateBasedProcessor
+{
+    private static final String STORE_LAYER_FUTURE = StoreLayerFuture.class.getName();
+    private static final String RESULT_SET = "com.datastax.driver.core.ResultSet";
+    private static final String VOID = Void.class.getName();
+    private static final String RESULT_SET_FUTURE = "com.datastax.driver.core.ResultSetFuture";
+    private static final String LISTENABLE_RESULT_SET = "com.google.common.util.concurrent.ListenableFuture<" +
+        RESULT_SET +
+        ">";
+
+    @Value
+    public static class AccessorMethod
+    {
+        int index;
+        String name;
+        String returnType;
+
+        /**
+         * The factory method of {@link StoreLayerFuture} to use, {@code null} for other return types
+         */
+        String storeLayerFactory;
+
+        boolean async;
+        String cql;
+        String consistencyLevel;
+        Integer fetchSize;
+        Boolean idempotent;
+
+        /**
+         * Whether {@link #idempotent} is set, as the template would treat {@link Boolean#FALSE} like a missing value
+         */
+        boolean idempotentSet;
+
+        List<AccessorParameter> parameters;
+    }
+
+    @Value
+    public static class AccessorParameter
+    {
+        int index;
+        String name;
+        String type;
+        String boxedType;
+    }
+
+    public PreparedAccessorProcessor()
+    {
+        super(PreparedAccessor.class, "preparedAccessorGenerator.stg");
+    }
+
+    @Override
+    protected void verifyElement(Element annotatedElement)
+    {
+        String annotationName = PreparedAccessor.class.getSimpleName();
+        if (annotatedElement.getKind() != ElementKind.INTERFACE)
+        {
+            throw new IllegalArgumentException("Only interfaces can be annotated with " + annotationName);
+        }
+        if (!annotatedElement.getModifiers()
+            .contains(Modifier.PUBLIC))
+        {
+            throw new IllegalArgumentException("Only public interfaces can be annotated with " + annotationName);
+        }
+    }
+
+    @Override
+    protected void addTemplateAttributes(ST template, TypeElement classElement)
+    {
+        List<AccessorMethod> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(classElement.getEnclosedElements()))
+        {
+            if (method.getModifiers()
+                .contains(Modifier.ABSTRACT))
+            {
+                methods.add(createMethod(methods.size(), method));
+            }
+        }
+        template.add("methods", methods);
+    }
+
+    private AccessorMethod createMethod(int index, ExecutableElement method)
+    {
+        String methodName = method.getEnclosingElement()
+            .getSimpleName() + "." + method.getSimpleName();
+
+        Query query = method.getAnnotation(Query.class);
+        if (query == null)
+        {
+            throw new IllegalArgumentException(methodName + " must be annotated with " + Query.class.getName());
+        }
+
+        String returnType = method.getReturnType()
+            .toString();
+        String storeLayerFactory = null;
+        if (returnType.equals(STORE_LAYER_FUTURE) || returnType.equals(STORE_LAYER_FUTURE + "<" + VOID + ">"))
+        {
+            storeLayerFactory = "voided";
+        }
+        else if (returnType.equals(STORE_LAYER_FUTURE + "<" + RESULT_SET + ">"))
+        {
+            storeLayerFactory = "of";
+        }
+        boolean async = storeLayerFactory != null ||
+            returnType.equals(RESULT_SET_FUTURE) ||
+            returnType.equals(LISTENABLE_RESULT_SET);
+        if (!async && !returnType.equals(RESULT_SET))
+        {
+            throw new IllegalArgumentException(methodName + " has unsupported return type " + returnType);
+        }
+
+        List<AccessorParameter> parameters = new ArrayList<>();
+        for (VariableElement parameter : method.getParameters())
+        {
+            TypeMirror type = parameter.asType();
+            TypeMirror boxedType = type.getKind()
+                .isPrimitive()
+                ? getTypeUtils().boxedClass(getTypeUtils().getPrimitiveType(type.getKind()))
+                .asType()
+                : type;
+            parameters.add(new AccessorParameter(parameters.size(),
+                parameter.getSimpleName()
+                    .toString(),
+                type.toString(),
+                boxedType.toString()));
+        }
+
+        String cql = query.value()
+            .trim();
+        QueryParameters queryParameters = method.getAnnotation(QueryParameters.class);
+
+        String consistencyLevel;
+        if (queryParameters != null &&
+            !queryParameters.consistency()
+                .isEmpty())
+        {
+            consistencyLevel = "ConsistencyLevel." + queryParameters.consistency()
+                .toUpperCase(Locale.ROOT);
+        }
+        else if (isSelect(cql))
+        {
+            consistencyLevel = "DefaultConsistencyLevel.READ";
+        }
+        else
+        {
+            consistencyLevel = "DefaultConsistencyLevel.WRITE";
+        }
+
+        Integer fetchSize = null;
+        Boolean idempotent = null;
+        if (queryParameters != null)
+        {
+            if (queryParameters.fetchSize() > 0)
+            {
+                fetchSize = queryParameters.fetchSize();
+            }
+            if (queryParameters.idempotent().length > 0)
+            {
+                idempotent = queryParameters.idempotent()[0];
+            }
+        }
+        if (idempotent == null && isSelect(cql))
+        {
+            idempotent = true;
+        }
+
+        return new AccessorMethod(index,
+            method.getSimpleName()
+                .toString(),
+            returnType,
+            storeLayerFactory,
+            async,
+            getElementUtils().getConstantExpression(cql),
+            consistencyLevel,
+            fetchSize,
+            idempotent,
+            idempotent != null,
+            parameters);
+    }
+
+    private static boolean isSelect(String cql)
+    {
+        return cql.regionMatches(true, 0, "SELECT", 0, 6);
+    }
+}
@@ -11,9 +11,11 @@ class SessionProducer
 {
     @Produces
     @Singleton
-    public Session produce(Cluster cluster)
+    public Session produce(Cluster cluster, CassandraInstrumentation instrumentation)
     {
-        return cluster.connect();
+        Session session = cluster.connect();
+        instrumentation.register(session);
+        return session;
     }
 
     public void dispose(@Disposes Session session)
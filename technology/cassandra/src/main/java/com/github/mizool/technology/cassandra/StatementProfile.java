@@ -0,0 +1,74 @@
+package com.github.mizool.technology.cassandra;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.mapping.Mapper;
+
+/**
+ * Execution settings for the statements of one operation on an entity, see {@link StatementProfiles}.
+ */
+@Value
+public class StatementProfile
+{
+    @NonNull
+    ConsistencyLevel consistencyLevel;
+
+    /**
+     * {@code null} to keep the driver default
+     */
+    Boolean idempotent;
+
+    /**
+     * Fraction of statements to trace, between 0 and 1
+     */
+    double tracingRate;
+
+    /**
+     * {@code null} to keep the driver default
+     */
+    Integer fetchSize;
+
+    /**
+     * Applies all settings to the statement. Tracing is enabled for the configured fraction of statements.
+     */
+    public <S extends Statement> S apply(@NonNull S statement)
+    {
+        statement.setConsistencyLevel(consistencyLevel);
+        if (idempotent != null)
+        {
+            statement.setIdempotent(idempotent);
+        }
+        if (fetchSize != null)
+        {
+            statement.setFetchSize(fetchSize);
+        }
+        if (tracingRate > 0 && ThreadLocalRandom.current()
+            .nextDouble() < tracingRate)
+        {
+            statement.enableTracing();
+        }
+        return statement;
+    }
+
+    /**
+     * Converts the settings supported by the mapper. As its options apply to all statements, tracing is only enabled
+     * if the tracing rate is 1.
+     */
+    public Mapper.Option[] getMapperOptions()
+    {
+        List<Mapper.Option> result = new ArrayList<>();
+        result.add(Mapper.Option.consistencyLevel(consistencyLevel));
+        if (tracingRate >= 1)
+        {
+            result.add(Mapper.Option.tracing(true));
+        }
+        return result.toArray(new Mapper.Option[0]);
+    }
+}
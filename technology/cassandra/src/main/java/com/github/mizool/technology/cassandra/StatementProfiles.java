@@ -0,0 +1,94 @@
+package com.github.mizool.technology.cassandra;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.mapping.Mapper;
+import com.github.mizool.core.configuration.Config;
+import com.github.mizool.core.configuration.PropertyNode;
+import com.github.mizool.core.configuration.Value;
+
+/**
+ * Determines the {@link StatementProfile} of an operation on an entity from the following system properties:
+ * <ul>
+ * <li>{@code technology.cassandra.entity.<entityClass>.consistency}: consistency level, defaults to
+ * {@link DefaultConsistencyLevel#READ} for reads and {@link DefaultConsistencyLevel#WRITE} otherwise.</li>
+ * <li>{@code technology.cassandra.entity.<entityClass>.idempotent}: allows retries and speculative executions. Reads
+ * are idempotent by default, for other operations the driver default applies.</li>
+ * <li>{@code technology.cassandra.entity.<entityClass>.tracingRate}: fraction of statements to trace, default 0.</li>
+ * <li>{@code technology.cassandra.entity.<entityClass>.fetchSize}: fetch size, defaults to the driver default.</li>
+ * </ul>
+ * Each property can be overridden for a single operation, e.g.
+ * {@code technology.cassandra.entity.com.example.Order.read.consistency=LOCAL_ONE}. The entity class is the fully
+ * qualified name.<br>
+ * <br>
+ * The generated mapper producers use these profiles for the default options of each mapper and for the generated
+ * {@link EntityCodec}. As mapper options cannot express idempotence, fetch size or tracing sampling, statements
+ * obtained from a mapper (e.g. via {@link Mapper#saveQuery(Object)}) can be passed to
+ * {@link StatementProfile#apply(com.datastax.driver.core.Statement)} to get the full profile.
+ */
+@UtilityClass
+public class StatementProfiles
+{
+    private final PropertyNode CONFIG = Config.systemProperties()
+        .child("technology.cassandra.entity");
+
+    private final Map<Class<?>, Map<EntityOperation, StatementProfile>> PROFILES = new ConcurrentHashMap<>();
+
+    public StatementProfile get(@NonNull Class<?> entityClass, @NonNull EntityOperation operation)
+    {
+        return PROFILES.computeIfAbsent(entityClass, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(operation, key -> read(entityClass, operation));
+    }
+
+    /**
+     * Sets the default get, save and delete options of the mapper according to the profiles of the entity.
+     */
+    public void applyDefaults(@NonNull Mapper<?> mapper, @NonNull Class<?> entityClass)
+    {
+        mapper.setDefaultGetOptions(get(entityClass, EntityOperation.READ).getMapperOptions());
+        mapper.setDefaultSaveOptions(get(entityClass, EntityOperation.SAVE).getMapperOptions());
+        mapper.setDefaultDeleteOptions(get(entityClass, EntityOperation.DELETE).getMapperOptions());
+    }
+
+    private StatementProfile read(Class<?> entityClass, EntityOperation operation)
+    {
+        PropertyNode entityNode = CONFIG.child(entityClass.getName());
+        PropertyNode operationNode = entityNode.child(operation.name()
+            .toLowerCase(Locale.ROOT));
+        boolean isRead = operation == EntityOperation.READ;
+
+        ConsistencyLevel consistencyLevel = read(entityNode,
+            operationNode,
+            "consistency",
+            node -> node.convertedValue(ConsistencyLevel::valueOf)).orElse(isRead
+            ? DefaultConsistencyLevel.READ
+            : DefaultConsistencyLevel.WRITE);
+        Boolean idempotent = read(entityNode, operationNode, "idempotent", PropertyNode::booleanValue).orElse(isRead
+            ? Boolean.TRUE
+            : null);
+        double tracingRate = read(entityNode,
+            operationNode,
+            "tracingRate",
+            node -> node.convertedValue(Double::valueOf)).orElse(0.0);
+        Integer fetchSize = read(entityNode, operationNode, "fetchSize", PropertyNode::intValue).orElse(null);
+
+        return new StatementProfile(consistencyLevel, idempotent, tracingRate, fetchSize);
+    }
+
+    private <T> Optional<T> read(
+        PropertyNode entityNode, PropertyNode operationNode, String name, Function<PropertyNode, Value<T>> value)
+    {
+        return value.apply(operationNode.child(name))
+            .read()
+            .or(() -> value.apply(entityNode.child(name))
+                .read());
+    }
+}
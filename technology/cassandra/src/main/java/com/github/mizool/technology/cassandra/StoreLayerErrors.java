@@ -0,0 +1,35 @@
+package com.github.mizool.technology.cassandra;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Counts the driver exceptions translated by {@link StoreLayerFuture}.
+ */
+@UtilityClass
+class StoreLayerErrors
+{
+    private final LongAdder CODE_INCONSISTENCIES = new LongAdder();
+    private final LongAdder STORE_LAYER_FAILURES = new LongAdder();
+
+    public void codeInconsistency()
+    {
+        CODE_INCONSISTENCIES.increment();
+    }
+
+    public void storeLayerFailure()
+    {
+        STORE_LAYER_FAILURES.increment();
+    }
+
+    public long getCodeInconsistencies()
+    {
+        return CODE_INCONSISTENCIES.sum();
+    }
+
+    public long getStoreLayerFailures()
+    {
+        return STORE_LAYER_FAILURES.sum();
+    }
+}
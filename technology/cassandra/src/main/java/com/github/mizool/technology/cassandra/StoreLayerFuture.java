@@ -1,82 +1,142 @@
 package com.github.mizool.technology.cassandra;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+
+import lombok.NonNull;
 
 import com.datastax.driver.core.exceptions.NoHostAvailableException;
 import com.datastax.driver.core.exceptions.QueryExecutionException;
 import com.datastax.driver.core.exceptions.QueryValidationException;
-import com.github.mizool.core.concurrent.Futures;
 import com.github.mizool.core.exception.CodeInconsistencyException;
 import com.github.mizool.core.exception.StoreLayerException;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 
-public class StoreLayerFuture implements ListenableFuture<Void>
+/**
+ * Completes with the result of a driver future, translating driver exceptions as soon as it fails:
+ * {@link QueryValidationException} becomes {@link CodeInconsistencyException}, {@link QueryExecutionException} and
+ * {@link NoHostAvailableException} become {@link StoreLayerException}. Other exceptions are passed on as is.<br>
+ * <br>
+ * It can be passed to the listenable variants of {@link com.github.mizool.core.concurrent.FutureStreamJoiner} and
+ * {@link com.github.mizool.core.concurrent.BufferedStreamAdapter} as is, and to the completable variants after
+ * {@link #toCompletableFuture()}. Only the driver can complete it. Cancelling it cancels the driver future.
+ */
+public class StoreLayerFuture<V> extends AbstractFuture<V>
 {
-    private final ListenableFuture<Void> target;
+    /*
+     * Released on completion so that completed futures don't keep results alive that were discarded or already
+     * copied to this future.
+     */
+    private volatile ListenableFuture<?> source;
 
+    /**
+     * @deprecated use {@link #voided(ListenableFuture)}
+     */
+    @Deprecated
     public StoreLayerFuture(ListenableFuture<?> target)
     {
-        this.target = Futures.toVoidResult(target);
-    }
-
-    @Override
-    public void addListener(Runnable listener, Executor executor)
-    {
-        target.addListener(listener, executor);
+        this(target, true);
     }
 
-    @Override
-    public boolean cancel(boolean mayInterruptIfRunning)
+    private StoreLayerFuture(@NonNull ListenableFuture<?> source, boolean discardResult)
     {
-        return target.cancel(mayInterruptIfRunning);
+        this.source = source;
+        source.addListener(() -> onSourceDone(source, discardResult), MoreExecutors.directExecutor());
     }
 
-    @Override
-    public boolean isCancelled()
+    /**
+     * Completes with the result of the given future.
+     */
+    public static <V> StoreLayerFuture<V> of(@NonNull ListenableFuture<V> future)
     {
-        return target.isCancelled();
+        return new StoreLayerFuture<>(future, false);
     }
 
-    @Override
-    public boolean isDone()
+    /**
+     * Completes with {@code null} once the given future succeeds.
+     */
+    public static StoreLayerFuture<Void> voided(@NonNull ListenableFuture<?> future)
     {
-        return target.isDone();
+        return new StoreLayerFuture<>(future, true);
     }
 
-    @Override
-    public Void get() throws InterruptedException, ExecutionException
+    @SuppressWarnings("unchecked")
+    private void onSourceDone(ListenableFuture<?> done, boolean discardResult)
     {
         try
         {
-            return target.get();
+            Object result = Futures.getDone(done);
+            set(discardResult ? null : (V) result);
         }
-        catch (QueryValidationException e)
+        catch (ExecutionException e)
         {
-            throw new CodeInconsistencyException(e);
+            setException(translate(e.getCause()));
         }
-        catch (QueryExecutionException | NoHostAvailableException e)
+        catch (CancellationException e)
         {
-            throw new StoreLayerException(e);
+            cancel(false);
         }
     }
 
-    @Override
-    public Void get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException
+    private static Throwable translate(Throwable throwable)
     {
-        try
+        if (throwable instanceof QueryValidationException)
         {
-            return target.get(timeout, unit);
+            StoreLayerErrors.codeInconsistency();
+            return new CodeInconsistencyException(throwable);
         }
-        catch (QueryValidationException e)
+        if (throwable instanceof QueryExecutionException || throwable instanceof NoHostAvailableException)
         {
-            throw new CodeInconsistencyException(e);
+            StoreLayerErrors.storeLayerFailure();
+            return new StoreLayerException(throwable);
         }
-        catch (QueryExecutionException | NoHostAvailableException e)
+        return throwable;
+    }
+
+    @Override
+    protected void afterDone()
+    {
+        ListenableFuture<?> current = source;
+        source = null;
+        if (current != null && isCancelled())
         {
-            throw new StoreLayerException(e);
+            current.cancel(wasInterrupted());
         }
     }
+
+    /**
+     * @return a future that completes like this one, with driver exceptions already translated. Cancelling it cancels
+     * this future and the driver future.
+     */
+    public CompletableFuture<V> toCompletableFuture()
+    {
+        CompletableFuture<V> result = new CompletableFuture<>()
+        {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning)
+            {
+                StoreLayerFuture.this.cancel(mayInterruptIfRunning);
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+        addListener(() -> {
+            try
+            {
+                result.complete(Futures.getDone(this));
+            }
+            catch (ExecutionException e)
+            {
+                result.completeExceptionally(e.getCause());
+            }
+            catch (CancellationException e)
+            {
+                result.cancel(false);
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
 }
@@ -0,0 +1,202 @@
+package com.github.mizool.technology.cassandra;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.TokenRange;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.datastax.driver.mapping.Mapper;
+import com.github.mizool.core.concurrent.BufferedStreamAdapter;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Reads a whole table by splitting the token ring into ranges and querying them concurrently. Compared to paging
+ * through a single {@code SELECT *}, this spreads the load over all replicas and avoids one long-running query.<br>
+ * <br>
+ * The token ranges of the cluster are split into {@code splitsPerRange} parts each. Every part is read completely
+ * (with {@code fetchSize} rows per page) before its rows are emitted, so {@code parallelism} bounds both the number of
+ * concurrent queries and the number of parts held in memory. Parts that fail with a transient error are read again,
+ * up to {@code maxRetries} times. Rows are emitted in no particular order.<br>
+ * <br>
+ * Usage example:
+ * <pre>{@code
+ * TokenRangeScanner scanner = TokenRangeScanner.builder()
+ *     .session(session)
+ *     .executorService(executorService)
+ *     .build();
+ * try (Stream<MyEntity> entities = scanner.scan(mapper))
+ * {
+ *     entities.forEach(...);
+ * }}</pre>
+ */
+@Builder
+public class TokenRangeScanner
+{
+    @NonNull
+    private final Session session;
+
+    /**
+     * Executes the stream consumer of {@link BufferedStreamAdapter} and the paging of each range.
+     */
+    @NonNull
+    private final ExecutorService executorService;
+
+    @Builder.Default
+    private final int splitsPerRange = 16;
+
+    @Builder.Default
+    private final int parallelism = 8;
+
+    @Builder.Default
+    private final int fetchSize = 1000;
+
+    @Builder.Default
+    private final int maxRetries = 2;
+
+    /**
+     * Reads all entities of the table of the given mapper.
+     */
+    public <T> Stream<T> scan(@NonNull Mapper<T> mapper)
+    {
+        return scan(mapper.getTableMetadata(), resultSet -> mapper.map(resultSet)::one);
+    }
+
+    /**
+     * Reads all entities of the table of the given codec.
+     */
+    public <T> Stream<T> scan(@NonNull EntityCodec<T> codec)
+    {
+        return scan(codec.getTableMetadata(), resultSet -> () -> codec.fromRow(resultSet.one()));
+    }
+
+    /**
+     * Reads all rows of the given table.
+     */
+    public Stream<Row> scan(@NonNull TableMetadata table)
+    {
+        return scan(table, resultSet -> resultSet::one);
+    }
+
+    private <T> Stream<T> scan(TableMetadata table, Function<ResultSet, Supplier<T>> rowReader)
+    {
+        String partitionKey = table.getPartitionKey()
+            .stream()
+            .map(ColumnMetadata::getName)
+            .map(Metadata::quoteIfNecessary)
+            .collect(Collectors.joining(","));
+        String select = "SELECT * FROM " +
+            Metadata.quoteIfNecessary(table.getKeyspace()
+                .getName()) +
+            "." +
+            Metadata.quoteIfNecessary(table.getName()) +
+            " WHERE token(" +
+            partitionKey +
+            ") > ?";
+        PreparedStatement openEndedRange = session.prepare(select);
+        PreparedStatement boundedRange = session.prepare(select + " AND token(" + partitionKey + ") <= ?");
+
+        Stream<ListenableFuture<List<T>>> ranges = splitRing().stream()
+            .map(range -> bind(range, openEndedRange, boundedRange))
+            .map(statement -> readRange(statement, rowReader, new AtomicInteger()));
+
+        return BufferedStreamAdapter.listenable()
+            .adapt(ranges, parallelism, executorService)
+            .flatMap(List::stream);
+    }
+
+    private List<TokenRange> splitRing()
+    {
+        List<TokenRange> result = new ArrayList<>();
+        for (TokenRange tokenRange : session.getCluster()
+            .getMetadata()
+            .getTokenRanges())
+        {
+            for (TokenRange split : tokenRange.splitEvenly(splitsPerRange))
+            {
+                result.addAll(split.unwrap());
+            }
+        }
+
+        // Neighbouring ranges share replicas, so we spread concurrent queries over the ring
+        Collections.shuffle(result);
+        return result;
+    }
+
+    private BoundStatement bind(TokenRange range, PreparedStatement openEndedRange, PreparedStatement boundedRange)
+    {
+        BoundStatement result;
+
+        // After unwrapping, only the last range of the ring ends before it starts, namely at the minimum token
+        if (range.getEnd()
+            .compareTo(range.getStart()) <= 0)
+        {
+            result = openEndedRange.bind()
+                .setToken(0, range.getStart());
+        }
+        else
+        {
+            result = boundedRange.bind()
+                .setToken(0, range.getStart())
+                .setToken(1, range.getEnd());
+        }
+
+        result.setConsistencyLevel(DefaultConsistencyLevel.READ);
+        result.setFetchSize(fetchSize);
+        return result;
+    }
+
+    private <T> ListenableFuture<List<T>> readRange(
+        BoundStatement statement, Function<ResultSet, Supplier<T>> rowReader, AtomicInteger retries)
+    {
+        ListenableFuture<List<T>> rows = Futures.transformAsync(session.executeAsync(statement),
+            resultSet -> readPages(resultSet, rowReader, new ArrayList<>()),
+            executorService);
+
+        return Futures.catchingAsync(rows, DriverException.class, e -> {
+            if (retries.get() >= maxRetries || !DriverExceptions.isTransient(e))
+            {
+                return Futures.immediateFailedFuture(e);
+            }
+            retries.incrementAndGet();
+            return readRange(statement, rowReader, retries);
+        }, executorService);
+    }
+
+    private <T> ListenableFuture<List<T>> readPages(
+        ResultSet resultSet, Function<ResultSet, Supplier<T>> rowReader, List<T> rows)
+    {
+        Supplier<T> reader = rowReader.apply(resultSet);
+        for (int available = resultSet.getAvailableWithoutFetching(); available > 0; available--)
+        {
+            rows.add(reader.get());
+        }
+
+        if (resultSet.isFullyFetched())
+        {
+            return Futures.immediateFuture(rows);
+        }
+
+        return Futures.transformAsync(resultSet.fetchMoreResults(),
+            nextPage -> readPages(nextPage, rowReader, rows),
+            executorService);
+    }
+}
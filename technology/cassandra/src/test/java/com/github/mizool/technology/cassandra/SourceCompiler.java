@@ -0,0 +1,96 @@
+package com.github.mizool.technology.cassandra;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Compiles sources in memory with the test class path, running the annotation processors of this module.
+ */
+@UtilityClass
+class SourceCompiler
+{
+    private static class StringSource extends SimpleJavaFileObject
+    {
+        private final String code;
+
+        StringSource(String className, String code)
+        {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors)
+        {
+            return code;
+        }
+    }
+
+    /**
+     * @param sources the source code by fully qualified class name
+     *
+     * @return a class loader for the compiled classes, including generated ones
+     *
+     * @throws AssertionError if compilation fails
+     */
+    public ClassLoader compile(Map<String, String> sources)
+    {
+        try
+        {
+            Path outputDirectory = Files.createTempDirectory("compiled");
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null))
+            {
+                fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(outputDirectory));
+                fileManager.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, List.of(outputDirectory));
+
+                List<JavaFileObject> compilationUnits = new ArrayList<>();
+                sources.forEach((className, code) -> compilationUnits.add(new StringSource(className, code)));
+
+                List<String> options = List.of("-classpath", System.getProperty("java.class.path"), "-Xlint:all");
+                boolean success = compiler.getTask(null, fileManager, diagnostics, options, null, compilationUnits)
+                    .call();
+                if (!success)
+                {
+                    throw new AssertionError("Compilation failed:\n" + format(diagnostics));
+                }
+            }
+            URL[] urls = { outputDirectory.toUri().toURL() };
+            return new URLClassLoader(urls, SourceCompiler.class.getClassLoader());
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String format(DiagnosticCollector<JavaFileObject> diagnostics)
+    {
+        return diagnostics.getDiagnostics()
+            .stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .map(Object::toString)
+            .collect(Collectors.joining("\n"));
+    }
+}
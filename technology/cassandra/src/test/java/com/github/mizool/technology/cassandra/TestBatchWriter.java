@@ -0,0 +1,282 @@
+package com.github.mizool.technology.cassandra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.ProtocolOptions;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.QueryOptions;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.WriteType;
+import com.datastax.driver.core.exceptions.WriteTimeoutException;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.Futures;
+
+public class TestBatchWriter
+{
+    private static class TestResultSetFuture extends AbstractFuture<ResultSet> implements ResultSetFuture
+    {
+        static TestResultSetFuture succeeded()
+        {
+            TestResultSetFuture result = new TestResultSetFuture();
+            result.set(mock(ResultSet.class));
+            return result;
+        }
+
+        static TestResultSetFuture failed(Throwable throwable)
+        {
+            TestResultSetFuture result = new TestResultSetFuture();
+            result.setException(throwable);
+            return result;
+        }
+
+        @Override
+        public ResultSet getUninterruptibly()
+        {
+            return Futures.getUnchecked(this);
+        }
+
+        @Override
+        public ResultSet getUninterruptibly(long timeout, TimeUnit unit)
+        {
+            return Futures.getUnchecked(this);
+        }
+    }
+
+    private ExecutorService executorService;
+    private Session session;
+    private BatchWriteListener listener;
+    private List<Statement> executedStatements;
+    private Queue<Throwable> failures;
+
+    @BeforeMethod
+    public void setUp()
+    {
+        executorService = Executors.newFixedThreadPool(2);
+        listener = mock(BatchWriteListener.class);
+        executedStatements = Collections.synchronizedList(new ArrayList<>());
+        failures = new ArrayDeque<>();
+
+        ProtocolOptions protocolOptions = mock(ProtocolOptions.class);
+        when(protocolOptions.getProtocolVersion()).thenReturn(ProtocolVersion.V4);
+        Configuration configuration = mock(Configuration.class);
+        when(configuration.getProtocolOptions()).thenReturn(protocolOptions);
+        when(configuration.getCodecRegistry()).thenReturn(CodecRegistry.DEFAULT_INSTANCE);
+        when(configuration.getQueryOptions()).thenReturn(new QueryOptions());
+        Cluster cluster = mock(Cluster.class);
+        when(cluster.getConfiguration()).thenReturn(configuration);
+
+        session = mock(Session.class);
+        when(session.getCluster()).thenReturn(cluster);
+        when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            executedStatements.add(invocation.getArgument(0));
+            synchronized (failures)
+            {
+                Throwable failure = failures.poll();
+                return failure == null
+                    ? TestResultSetFuture.succeeded()
+                    : TestResultSetFuture.failed(failure);
+            }
+        });
+    }
+
+    @AfterMethod
+    public void tearDown()
+    {
+        executorService.shutdownNow();
+    }
+
+    private BatchWriter createBatchWriter(int maxBatchSize)
+    {
+        return BatchWriter.builder()
+            .session(session)
+            .executorService(executorService)
+            .listener(listener)
+            .maxBatchSize(maxBatchSize)
+            .build();
+    }
+
+    private void write(BatchWriter batchWriter, Statement... statements) throws Exception
+    {
+        batchWriter.write(Stream.of(statements), statement -> statement)
+            .get();
+    }
+
+    private static SimpleStatement statement(int partition)
+    {
+        return new SimpleStatement("INSERT INTO foo (id) VALUES (?)", partition).setKeyspace("test")
+            .setRoutingKey(ByteBuffer.wrap(new byte[]{ (byte) partition }));
+    }
+
+    private static SimpleStatement idempotentStatement(int partition)
+    {
+        SimpleStatement result = statement(partition);
+        result.setIdempotent(true);
+        return result;
+    }
+
+    private static WriteTimeoutException writeTimeout()
+    {
+        return new WriteTimeoutException(ConsistencyLevel.QUORUM, WriteType.UNLOGGED_BATCH, 1, 2);
+    }
+
+    private static BatchStatement.Type getType(BatchStatement batchStatement) throws ReflectiveOperationException
+    {
+        // The driver does not expose the type of a batch
+        Field field = BatchStatement.class.getDeclaredField("batchType");
+        field.setAccessible(true);
+        return (BatchStatement.Type) field.get(batchStatement);
+    }
+
+    @Test
+    public void testGroupsStatementsByPartition() throws Exception
+    {
+        SimpleStatement first = statement(1);
+        SimpleStatement second = statement(2);
+        SimpleStatement third = statement(1);
+        SimpleStatement withoutRoutingKey = new SimpleStatement("TRUNCATE foo");
+
+        write(createBatchWriter(20), first, second, third, withoutRoutingKey);
+
+        assertThat(executedStatements).hasSize(3)
+            .contains(second, withoutRoutingKey);
+        BatchStatement batchStatement = executedStatements.stream()
+            .filter(BatchStatement.class::isInstance)
+            .map(BatchStatement.class::cast)
+            .findFirst()
+            .orElseThrow();
+        assertThat(batchStatement.getStatements()).containsExactly(first, third);
+        assertThat(getType(batchStatement)).isEqualTo(BatchStatement.Type.UNLOGGED);
+    }
+
+    @Test
+    public void testSplitsPartitionsByMaxBatchSize() throws Exception
+    {
+        write(createBatchWriter(2), statement(1), statement(1), statement(1), statement(1), statement(1));
+
+        assertThat(executedStatements).hasSize(3);
+        assertThat(executedStatements.stream()
+            .map(statement -> statement instanceof BatchStatement
+                ? ((BatchStatement) statement).size()
+                : 1)).containsExactlyInAnyOrder(2, 2, 1);
+    }
+
+    @Test
+    public void testUsesConsistencyLevelOfStatements() throws Exception
+    {
+        Statement first = statement(1).setConsistencyLevel(ConsistencyLevel.LOCAL_ONE);
+        Statement second = statement(1).setConsistencyLevel(ConsistencyLevel.LOCAL_ONE);
+        Statement third = statement(1).setConsistencyLevel(ConsistencyLevel.QUORUM);
+
+        write(createBatchWriter(20), first, second, third);
+
+        assertThat(executedStatements).hasSize(2)
+            .contains(third);
+        assertThat(executedStatements).filteredOn(BatchStatement.class::isInstance)
+            .singleElement()
+            .extracting(Statement::getConsistencyLevel)
+            .isEqualTo(ConsistencyLevel.LOCAL_ONE);
+    }
+
+    @Test
+    public void testRetriesIdempotentStatements() throws Exception
+    {
+        failures.add(writeTimeout());
+
+        write(createBatchWriter(20), idempotentStatement(1), idempotentStatement(1));
+
+        assertThat(executedStatements).hasSize(2);
+        verify(listener).onBatchWritten(eq(2), any(), eq(1));
+    }
+
+    @Test
+    public void testDoesNotRetryNonIdempotentStatements()
+    {
+        failures.add(writeTimeout());
+        BatchWriter batchWriter = createBatchWriter(20);
+
+        assertThatThrownBy(() -> write(batchWriter, statement(1), statement(1))).isInstanceOf(
+            ExecutionException.class);
+
+        assertThat(executedStatements).hasSize(1);
+        verify(listener).onBatchFailed(eq(2), any(), eq(0), any(WriteTimeoutException.class));
+    }
+
+    @Test
+    public void testGivesUpAfterMaxRetries()
+    {
+        failures.add(writeTimeout());
+        failures.add(writeTimeout());
+        failures.add(writeTimeout());
+        BatchWriter batchWriter = createBatchWriter(20);
+
+        assertThatThrownBy(() -> write(batchWriter, idempotentStatement(1))).isInstanceOf(ExecutionException.class);
+
+        assertThat(executedStatements).hasSize(3);
+        verify(listener).onBatchFailed(eq(1), any(), eq(2), any(WriteTimeoutException.class));
+    }
+
+    @Test
+    public void testClosesEntitiesOnSuccess() throws Exception
+    {
+        CountDownLatch closed = new CountDownLatch(1);
+        Stream<String> entities = Stream.<String>empty()
+            .onClose(closed::countDown);
+
+        createBatchWriter(20).write(entities, this::failToCreateStatement)
+            .get();
+
+        assertThat(closed.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testClosesEntitiesOnFailure() throws Exception
+    {
+        CountDownLatch closed = new CountDownLatch(1);
+        Stream<String> entities = Stream.of("entity")
+            .onClose(closed::countDown);
+        BatchWriter batchWriter = createBatchWriter(20);
+
+        assertThatThrownBy(() -> batchWriter.write(entities, this::failToCreateStatement)
+            .get()).isInstanceOf(ExecutionException.class);
+
+        assertThat(closed.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private Statement failToCreateStatement(String entity)
+    {
+        throw new IllegalStateException();
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.mizool.technology.cassandra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.HostDistance;
+import com.datastax.driver.core.PoolingOptions;
+
+public class TestConfiguredClusterInitializer
+{
+    private static final String CORE_CONNECTIONS = "technology.cassandra.pooling.local.coreConnections";
+    private static final String MAX_CONNECTIONS = "technology.cassandra.pooling.local.maxConnections";
+
+    @AfterMethod
+    public void tearDown()
+    {
+        System.clearProperty(CORE_CONNECTIONS);
+        System.clearProperty(MAX_CONNECTIONS);
+    }
+
+    @Test
+    public void testCoreAndMaxConnections()
+    {
+        System.setProperty(CORE_CONNECTIONS, "2");
+        System.setProperty(MAX_CONNECTIONS, "8");
+
+        PoolingOptions poolingOptions = getPoolingOptions();
+
+        assertThat(poolingOptions.getCoreConnectionsPerHost(HostDistance.LOCAL)).isEqualTo(2);
+        assertThat(poolingOptions.getMaxConnectionsPerHost(HostDistance.LOCAL)).isEqualTo(8);
+    }
+
+    @Test
+    public void testOnlyMaxConnections()
+    {
+        System.setProperty(MAX_CONNECTIONS, "8");
+
+        PoolingOptions poolingOptions = getPoolingOptions();
+
+        assertThat(poolingOptions.getMaxConnectionsPerHost(HostDistance.LOCAL)).isEqualTo(8);
+        assertThat(poolingOptions.getCoreConnectionsPerHost(HostDistance.LOCAL)).isEqualTo(PoolingOptions.UNSET);
+    }
+
+    @Test
+    public void testOnlyCoreConnections()
+    {
+        System.setProperty(CORE_CONNECTIONS, "4");
+
+        PoolingOptions poolingOptions = getPoolingOptions();
+
+        assertThat(poolingOptions.getCoreConnectionsPerHost(HostDistance.LOCAL)).isEqualTo(4);
+        assertThat(poolingOptions.getMaxConnectionsPerHost(HostDistance.LOCAL)).isEqualTo(PoolingOptions.UNSET);
+    }
+
+    @Test
+    public void testNothingConfigured()
+    {
+        PoolingOptions poolingOptions = getPoolingOptions();
+
+        assertThat(poolingOptions.getCoreConnectionsPerHost(HostDistance.LOCAL)).isEqualTo(PoolingOptions.UNSET);
+        assertThat(poolingOptions.getMaxConnectionsPerHost(HostDistance.LOCAL)).isEqualTo(PoolingOptions.UNSET);
+    }
+
+    private PoolingOptions getPoolingOptions()
+    {
+        Cluster.Builder delegate = Cluster.builder()
+            .addContactPoint("127.0.0.1");
+        return new ConfiguredClusterInitializer(delegate).getConfiguration()
+            .getPoolingOptions();
+    }
+}
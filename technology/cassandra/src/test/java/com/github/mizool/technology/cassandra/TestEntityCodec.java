@@ -0,0 +1,257 @@
+package com.github.mizool.technology.cassandra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Constructor;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.TableMetadata;
+
+public class TestEntityCodec
+{
+    private static final String BASE_ENTITY = String.join("\n",
+        "package com.example;",
+        "",
+        "public class BaseEntity",
+        "{",
+        "    private String id;",
+        "",
+        "    public String getId()",
+        "    {",
+        "        return id;",
+        "    }",
+        "",
+        "    public void setId(String id)",
+        "    {",
+        "        this.id = id;",
+        "    }",
+        "}");
+
+    private static final String COLOR = String.join("\n",
+        "package com.example;",
+        "",
+        "public enum Color",
+        "{",
+        "    RED,",
+        "    GREEN",
+        "}");
+
+    private static final String ENTITY = String.join("\n",
+        "package com.example;",
+        "",
+        "import java.util.List;",
+        "",
+        "import com.datastax.driver.mapping.annotations.Column;",
+        "import com.datastax.driver.mapping.annotations.Table;",
+        "import com.github.mizool.technology.cassandra.MapperProducer;",
+        "",
+        "@MapperProducer",
+        "@Table(keyspace = \"ks\", name = \"foo\")",
+        "public class Foo extends BaseEntity",
+        "{",
+        "    private int quantity;",
+        "    private Color color;",
+        "    private List<String> labels;",
+        "",
+        "    @Column(name = \"Display Name\", caseSensitive = true)",
+        "    private String displayName;",
+        "",
+        "    public int getQuantity()",
+        "    {",
+        "        return quantity;",
+        "    }",
+        "",
+        "    public void setQuantity(int quantity)",
+        "    {",
+        "        this.quantity = quantity;",
+        "    }",
+        "",
+        "    public Color getColor()",
+        "    {",
+        "        return color;",
+        "    }",
+        "",
+        "    public void setColor(Color color)",
+        "    {",
+        "        this.color = color;",
+        "    }",
+        "",
+        "    public List<String> getLabels()",
+        "    {",
+        "        return labels;",
+        "    }",
+        "",
+        "    public void setLabels(List<String> labels)",
+        "    {",
+        "        this.labels = labels;",
+        "    }",
+        "",
+        "    public String getDisplayName()",
+        "    {",
+        "        return displayName;",
+        "    }",
+        "",
+        "    public void setDisplayName(String displayName)",
+        "    {",
+        "        this.displayName = displayName;",
+        "    }",
+        "}");
+
+    private static final String INSERT =
+        "INSERT INTO ks.foo (id,quantity,color,labels,\"Display Name\") VALUES (?,?,?,?,?)";
+    private static final List<String> COLUMNS = List.of("id", "quantity", "color", "labels", "\"Display Name\"");
+
+    private ClassLoader classLoader;
+    private Session session;
+    private Map<Integer, Object> boundValues;
+
+    @BeforeClass
+    public void compile()
+    {
+        classLoader = SourceCompiler.compile(Map.of("com.example.BaseEntity",
+            BASE_ENTITY,
+            "com.example.Color",
+            COLOR,
+            "com.example.Foo",
+            ENTITY));
+    }
+
+    @BeforeMethod
+    public void setUp()
+    {
+        boundValues = new HashMap<>();
+        BoundStatement boundStatement = mock(BoundStatement.class, invocation -> {
+            Object[] arguments = invocation.getArguments();
+            if (invocation.getMethod()
+                .getName()
+                .startsWith("set") && arguments.length >= 2 && arguments[0] instanceof Integer)
+            {
+                boundValues.put((Integer) arguments[0], arguments[1]);
+            }
+            return invocation.getMethod()
+                .getReturnType()
+                .isInstance(invocation.getMock())
+                ? invocation.getMock()
+                : Mockito.RETURNS_DEFAULTS.answer(invocation);
+        });
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.bind()).thenReturn(boundStatement);
+
+        session = mock(Session.class);
+        when(session.prepare(anyString())).thenReturn(preparedStatement);
+    }
+
+    @Test
+    public void testPreparesInsert() throws Exception
+    {
+        createCodec();
+
+        verify(session).prepare(INSERT);
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception
+    {
+        Object entity = createEntity("id", 42, "GREEN", List.of("a", "b"), "Foo");
+        EntityCodec<Object> codec = createCodec();
+
+        codec.saveQuery(entity);
+        Object result = codec.fromRow(createRow(Set.copyOf(COLUMNS)));
+
+        assertThat(boundValues).hasSize(COLUMNS.size());
+        assertThat(boundValues.get(2)).isEqualTo("GREEN");
+        assertThat(result).usingRecursiveComparison()
+            .isEqualTo(entity);
+    }
+
+    @Test
+    public void testProjection() throws Exception
+    {
+        EntityCodec<Object> codec = createCodec();
+
+        codec.saveQuery(createEntity("id", 42, "GREEN", List.of("a", "b"), "Foo"));
+        Object result = codec.fromRow(createRow(Set.of("id", "\"Display Name\"")));
+
+        assertThat(result).usingRecursiveComparison()
+            .isEqualTo(createEntity("id", 0, null, null, "Foo"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private EntityCodec<Object> createCodec() throws ReflectiveOperationException
+    {
+        KeyspaceMetadata keyspaceMetadata = mock(KeyspaceMetadata.class);
+        when(keyspaceMetadata.getName()).thenReturn("ks");
+        TableMetadata tableMetadata = mock(TableMetadata.class);
+        when(tableMetadata.getKeyspace()).thenReturn(keyspaceMetadata);
+        when(tableMetadata.getName()).thenReturn("foo");
+
+        Constructor<?> constructor = classLoader.loadClass("com.example.FooMapperProducer$FooCodec")
+            .getDeclaredConstructor(Session.class, TableMetadata.class);
+        constructor.setAccessible(true);
+        return (EntityCodec<Object>) constructor.newInstance(session, tableMetadata);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object createEntity(String id, int quantity, String color, List<String> labels, String displayName)
+        throws ReflectiveOperationException
+    {
+        Class<?> entityClass = classLoader.loadClass("com.example.Foo");
+        Class colorClass = classLoader.loadClass("com.example.Color");
+        Object result = entityClass.getConstructor()
+            .newInstance();
+        entityClass.getMethod("setId", String.class)
+            .invoke(result, id);
+        entityClass.getMethod("setQuantity", int.class)
+            .invoke(result, quantity);
+        entityClass.getMethod("setColor", colorClass)
+            .invoke(result, color == null
+                ? null
+                : Enum.valueOf(colorClass, color));
+        entityClass.getMethod("setLabels", List.class)
+            .invoke(result, labels);
+        entityClass.getMethod("setDisplayName", String.class)
+            .invoke(result, displayName);
+        return result;
+    }
+
+    /**
+     * Serves the values bound by {@link EntityCodec#saveQuery(Object)}, limited to the given columns.
+     */
+    private Row createRow(Set<String> columns)
+    {
+        ColumnDefinitions columnDefinitions = mock(ColumnDefinitions.class);
+        when(columnDefinitions.contains(anyString())).thenAnswer(invocation -> columns.contains(invocation.getArgument(0)));
+        return mock(Row.class, invocation -> {
+            if (invocation.getMethod()
+                .getName()
+                .equals("getColumnDefinitions"))
+            {
+                return columnDefinitions;
+            }
+            String column = invocation.getArgument(0);
+            if (!columns.contains(column))
+            {
+                throw new IllegalArgumentException(column + " is not a column defined in this metadata");
+            }
+            return boundValues.get(COLUMNS.indexOf(column));
+        });
+    }
+}
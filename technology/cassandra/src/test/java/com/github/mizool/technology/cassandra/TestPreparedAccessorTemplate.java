@@ -0,0 +1,143 @@
+package com.github.mizool.technology.cassandra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.Map;
+
+import org.stringtemplate.v4.ST;
+import org.testng.annotations.Test;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.github.mizool.core.st4.TemplateLoader;
+import com.google.common.reflect.TypeToken;
+
+public class TestPreparedAccessorTemplate
+{
+    @Test
+    public void testIdempotentFalse()
+    {
+        String source = render(createMethod(false, List.of()));
+
+        assertThat(source).contains("statement0.setIdempotent(false);");
+    }
+
+    @Test
+    public void testIdempotentTrue()
+    {
+        String source = render(createMethod(true, List.of()));
+
+        assertThat(source).contains("statement0.setIdempotent(true);");
+    }
+
+    @Test
+    public void testIdempotentUnset()
+    {
+        String source = render(createMethod(null, List.of()));
+
+        assertThat(source).doesNotContain("setIdempotent");
+    }
+
+    @Test
+    public void testParameters()
+    {
+        String source = render(createMethod(null,
+            List.of(new PreparedAccessorProcessor.AccessorParameter(0, "id", "java.lang.String", "java.lang.String"),
+                new PreparedAccessorProcessor.AccessorParameter(1, "version", "int", "java.lang.Integer"))));
+
+        assertThat(source).contains("private static final TypeToken<java.lang.Integer> TYPE_0_1 =")
+            .contains("public com.datastax.driver.core.ResultSet read(java.lang.String id, int version)")
+            .contains("statement.set(0, id, TYPE_0_0);")
+            .contains("statement.set(1, version, TYPE_0_1);");
+    }
+
+    @Test
+    public void testGeneratedAccessorCompiles() throws Exception
+    {
+        String accessor = String.join("\n",
+            "package com.example;",
+            "",
+            "import com.datastax.driver.core.ResultSet;",
+            "import com.datastax.driver.core.ResultSetFuture;",
+            "import com.datastax.driver.mapping.annotations.Query;",
+            "import com.datastax.driver.mapping.annotations.QueryParameters;",
+            "import com.github.mizool.technology.cassandra.PreparedAccessor;",
+            "import com.github.mizool.technology.cassandra.StoreLayerFuture;",
+            "import com.google.common.util.concurrent.ListenableFuture;",
+            "",
+            "@PreparedAccessor",
+            "public interface FooAccessor",
+            "{",
+            "    @Query(\"SELECT * FROM foo WHERE id = ? AND version = ?\")",
+            "    ResultSet read(String id, int version);",
+            "",
+            "    @Query(\"SELECT * FROM foo\")",
+            "    @QueryParameters(fetchSize = 100)",
+            "    ResultSetFuture readAll();",
+            "",
+            "    @Query(\"SELECT * FROM foo WHERE tenant = ?\")",
+            "    ListenableFuture<ResultSet> readByTenant(String tenant);",
+            "",
+            "    @Query(\"SELECT * FROM foo WHERE id = ?\")",
+            "    StoreLayerFuture<ResultSet> readAsync(String id);",
+            "",
+            "    @Query(\"UPDATE foo SET counter = counter + 1 WHERE id = ?\")",
+            "    @QueryParameters(idempotent = false)",
+            "    StoreLayerFuture<Void> increment(String id);",
+            "}");
+        ClassLoader classLoader = SourceCompiler.compile(Map.of("com.example.FooAccessor", accessor));
+
+        BoundStatement boundStatement = mock(BoundStatement.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.bind()).thenReturn(boundStatement);
+        Session session = mock(Session.class);
+        when(session.prepare(anyString())).thenReturn(preparedStatement);
+
+        Class<?> accessorClass = classLoader.loadClass("com.example.FooAccessor");
+        Constructor<?> constructor = classLoader.loadClass("com.example.FooAccessorPreparedAccessor")
+            .getDeclaredConstructor(Session.class);
+        constructor.setAccessible(true);
+        Object instance = constructor.newInstance(session);
+        accessorClass.getMethod("read", String.class, int.class)
+            .invoke(instance, "foo", 42);
+
+        verify(session).prepare("SELECT * FROM foo WHERE id = ? AND version = ?");
+        verify(preparedStatement).setIdempotent(false);
+        verify(boundStatement).set(0, "foo", TypeToken.of(String.class));
+        verify(boundStatement).set(1, 42, TypeToken.of(Integer.class));
+        verify(session).execute(boundStatement);
+    }
+
+    private PreparedAccessorProcessor.AccessorMethod createMethod(
+        Boolean idempotent, List<PreparedAccessorProcessor.AccessorParameter> parameters)
+    {
+        return new PreparedAccessorProcessor.AccessorMethod(0,
+            "read",
+            "com.datastax.driver.core.ResultSet",
+            null,
+            false,
+            "\"SELECT * FROM foo\"",
+            "DefaultConsistencyLevel.READ",
+            null,
+            idempotent,
+            idempotent != null,
+            parameters);
+    }
+
+    private String render(PreparedAccessorProcessor.AccessorMethod method)
+    {
+        ST template = new TemplateLoader().getGroupTemplate("preparedAccessorGenerator.stg",
+            PreparedAccessorProcessor.class);
+        template.add("packageName", "com.example");
+        template.add("className", "FooAccessor");
+        template.add("methods", List.of(method));
+        return template.render();
+    }
+}
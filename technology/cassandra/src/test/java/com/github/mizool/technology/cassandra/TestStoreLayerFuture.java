@@ -0,0 +1,104 @@
+package com.github.mizool.technology.cassandra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.testng.annotations.Test;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.WriteType;
+import com.datastax.driver.core.exceptions.InvalidQueryException;
+import com.datastax.driver.core.exceptions.WriteTimeoutException;
+import com.github.mizool.core.exception.CodeInconsistencyException;
+import com.github.mizool.core.exception.StoreLayerException;
+import com.google.common.util.concurrent.SettableFuture;
+
+public class TestStoreLayerFuture
+{
+    @Test
+    public void testResult() throws Exception
+    {
+        SettableFuture<String> source = SettableFuture.create();
+        StoreLayerFuture<String> future = StoreLayerFuture.of(source);
+
+        source.set("result");
+
+        assertThat(future.get()).isEqualTo("result");
+    }
+
+    @Test
+    public void testVoided() throws Exception
+    {
+        SettableFuture<String> source = SettableFuture.create();
+        StoreLayerFuture<Void> future = StoreLayerFuture.voided(source);
+
+        source.set("result");
+
+        assertThat(future.get()).isNull();
+    }
+
+    @Test
+    public void testTranslatesQueryValidationException()
+    {
+        SettableFuture<String> source = SettableFuture.create();
+        StoreLayerFuture<String> future = StoreLayerFuture.of(source);
+
+        source.setException(new InvalidQueryException("invalid"));
+
+        assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(CodeInconsistencyException.class);
+    }
+
+    @Test
+    public void testTranslatesQueryExecutionExceptionForCompletableFuture()
+    {
+        SettableFuture<String> source = SettableFuture.create();
+        CompletableFuture<String> future = StoreLayerFuture.of(source)
+            .toCompletableFuture();
+
+        source.setException(new WriteTimeoutException(ConsistencyLevel.QUORUM, WriteType.SIMPLE, 1, 2));
+
+        assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(StoreLayerException.class);
+    }
+
+    @Test
+    public void testCancelCancelsSource()
+    {
+        SettableFuture<String> source = SettableFuture.create();
+        StoreLayerFuture<String> future = StoreLayerFuture.of(source);
+
+        future.cancel(false);
+
+        assertThat(source.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void testCancelCompletableFutureCancelsSource()
+    {
+        SettableFuture<String> source = SettableFuture.create();
+        StoreLayerFuture<String> future = StoreLayerFuture.of(source);
+
+        future.toCompletableFuture()
+            .cancel(false);
+
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(source.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void testCancelledSource()
+    {
+        SettableFuture<String> source = SettableFuture.create();
+        StoreLayerFuture<String> future = StoreLayerFuture.of(source);
+        CompletableFuture<String> completableFuture = future.toCompletableFuture();
+
+        source.cancel(false);
+
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(completableFuture.isCancelled()).isTrue();
+    }
+}
@@ -3,7 +3,6 @@ package com.github.mizool.technology.gson;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 
 import com.github.mizool.core.exception.CodeInconsistencyException;
@@ -17,9 +16,21 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 
+/**
+ * Serializes and deserializes the declared fields of objects that are not excluded by the given strategies. The
+ * fields and their accessors are determined once per class.
+ */
 public abstract class AbstractTypeAdapter<T> implements JsonSerializer<T>, JsonDeserializer<T>
 {
     private final Iterable<ExclusionStrategy> exclusionStrategies;
+    private final ClassValue<FieldPlan> fieldPlans = new ClassValue<>()
+    {
+        @Override
+        protected FieldPlan computeValue(Class<?> type)
+        {
+            return FieldPlan.create(type, AbstractTypeAdapter.this::isExcluded);
+        }
+    };
 
     protected AbstractTypeAdapter(ExclusionStrategy... strategies)
     {
@@ -38,29 +49,22 @@ public abstract class AbstractTypeAdapter<T> implements JsonSerializer<T>, JsonD
         return result;
     }
 
+    /**
+     * @return the non-excluded fields of the object's class. The set is cached and must not be modified.
+     */
     protected Set<Field> getFields(T object)
     {
-        Set<Field> result = new HashSet<>();
-
-        Class<?> objectClass = object.getClass();
-        Field[] declaredFields = objectClass.getDeclaredFields();
-        for (Field field : declaredFields)
-        {
-            if (!isExcluded(field))
-            {
-                result.add(field);
-            }
-        }
-
-        return result;
+        return fieldPlans.get(object.getClass())
+            .getFields();
     }
 
     protected boolean isExcluded(Field field)
     {
         boolean result = false;
+        FieldAttributes fieldAttributes = new FieldAttributes(field);
         for (ExclusionStrategy strategy : exclusionStrategies)
         {
-            if (strategy.shouldSkipField(new FieldAttributes(field)))
+            if (strategy.shouldSkipField(fieldAttributes))
             {
                 result = true;
                 break;
@@ -104,15 +108,9 @@ public abstract class AbstractTypeAdapter<T> implements JsonSerializer<T>, JsonD
 
     private Object getFieldValue(Object object, Field field)
     {
-        try
-        {
-            field.setAccessible(true);
-            return field.get(object);
-        }
-        catch (IllegalAccessException e)
-        {
-            throw new IllegalArgumentException("Could not read field " + field.getName(), e);
-        }
+        return fieldPlans.get(object.getClass())
+            .getAccessor(field)
+            .get(object);
     }
 
     @Override
@@ -175,14 +173,8 @@ public abstract class AbstractTypeAdapter<T> implements JsonSerializer<T>, JsonD
 
     protected void setFieldValue(T object, Field field, Object value)
     {
-        field.setAccessible(true);
-        try
-        {
-            field.set(object, value);
-        }
-        catch (IllegalAccessException e)
-        {
-            throw new IllegalArgumentException("Could not write field " + field.getName(), e);
-        }
+        fieldPlans.get(object.getClass())
+            .getAccessor(field)
+            .set(object, value);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package com.github.mizool.technology.gson;
+
+import lombok.Getter;
+
+/**
+ * Keeps one byte and one char buffer per thread. Buffers are taken out of the pool while in use, so nested use on the
+ * same thread allocates a new buffer instead of sharing one. Byte buffers larger than the configured size are pooled
+ * up to the given maximum, so that repeated requests for large buffers don't allocate each time.
+ */
+class BufferPool
+{
+    /**
+     * Leaves room for incomplete multi-byte sequences and surrogate pairs at the end of a buffer.
+     */
+    private static final int MINIMUM_BUFFER_SIZE = 16;
+
+    @Getter
+    private final int bufferSize;
+
+    private final int maxPooledSize;
+
+    private final ThreadLocal<byte[]> byteBuffers = new ThreadLocal<>();
+    private final ThreadLocal<char[]> charBuffers = new ThreadLocal<>();
+
+    public BufferPool(int bufferSize)
+    {
+        this(bufferSize, bufferSize);
+    }
+
+    public BufferPool(int bufferSize, int maxPooledSize)
+    {
+        if (bufferSize < MINIMUM_BUFFER_SIZE)
+        {
+            throw new IllegalArgumentException("Buffer size must be at least " +
+                MINIMUM_BUFFER_SIZE +
+                ", but was " +
+                bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.maxPooledSize = Math.max(bufferSize, maxPooledSize);
+    }
+
+    /**
+     * @param minimumSize the minimum length of the buffer; if it exceeds the configured size and the pooled buffer, a
+     * new buffer of exactly that length is returned
+     */
+    public byte[] takeBytes(int minimumSize)
+    {
+        byte[] result = byteBuffers.get();
+        if (result == null || result.length < minimumSize)
+        {
+            return new byte[Math.max(minimumSize, bufferSize)];
+        }
+
+        byteBuffers.remove();
+        return result;
+    }
+
+    public void returnBytes(byte[] buffer)
+    {
+        if (buffer.length <= maxPooledSize)
+        {
+            byte[] pooled = byteBuffers.get();
+            if (pooled == null || pooled.length < buffer.length)
+            {
+                byteBuffers.set(buffer);
+            }
+        }
+    }
+
+    public char[] takeChars()
+    {
+        char[] result = charBuffers.get();
+        if (result == null)
+        {
+            result = new char[bufferSize];
+        }
+        else
+        {
+            charBuffers.remove();
+        }
+        return result;
+    }
+
+    public void returnChars(char[] buffer)
+    {
+        if (buffer.length == bufferSize)
+        {
+            charBuffers.set(buffer);
+        }
+    }
+}
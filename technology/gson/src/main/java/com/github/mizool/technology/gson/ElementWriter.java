@@ -0,0 +1,41 @@
+package com.github.mizool.technology.gson;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Writes the elements of one streamed response, looking up the {@link TypeAdapter} of each element class only once.
+ */
+@RequiredArgsConstructor
+class ElementWriter
+{
+    @NonNull
+    private final GsonWrapper gsonWrapper;
+
+    private final Map<Class<?>, TypeAdapter<Object>> adapters = new HashMap<>();
+
+    public void write(JsonWriter jsonWriter, Object element) throws IOException
+    {
+        if (element == null)
+        {
+            jsonWriter.nullValue();
+            return;
+        }
+
+        adapters.computeIfAbsent(element.getClass(), this::getAdapter)
+            .write(jsonWriter, element);
+    }
+
+    @SuppressWarnings("unchecked")
+    private TypeAdapter<Object> getAdapter(Class<?> elementClass)
+    {
+        return (TypeAdapter<Object>) gsonWrapper.getAdapter(elementClass);
+    }
+}
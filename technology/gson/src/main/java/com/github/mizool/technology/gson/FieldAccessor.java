@@ -0,0 +1,118 @@
+package com.github.mizool.technology.gson;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads and writes a field via method handles bound once, so that access checks are not repeated for each object.
+ * Fields which cannot be made accessible are handled via reflection, which reports the problem on access.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class FieldAccessor
+{
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    public static FieldAccessor create(Field field)
+    {
+        MethodHandle getter = null;
+        MethodHandle setter = null;
+        try
+        {
+            field.setAccessible(true);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            getter = lookup.unreflectGetter(field)
+                .asType(GETTER_TYPE);
+            setter = lookup.unreflectSetter(field)
+                .asType(SETTER_TYPE);
+        }
+        catch (RuntimeException | IllegalAccessException e)
+        {
+            // Fall back to reflection for the handles we could not obtain
+        }
+        return new FieldAccessor(field, getter, setter);
+    }
+
+    public Object get(Object object)
+    {
+        if (getter == null)
+        {
+            return getReflectively(object);
+        }
+
+        try
+        {
+            return (Object) getter.invokeExact(object);
+        }
+        catch (RuntimeException | Error e)
+        {
+            throw e;
+        }
+        catch (Throwable t)
+        {
+            throw new IllegalArgumentException("Could not read field " + field.getName(), t);
+        }
+    }
+
+    private Object getReflectively(Object object)
+    {
+        try
+        {
+            field.setAccessible(true);
+            return field.get(object);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new IllegalArgumentException("Could not read field " + field.getName(), e);
+        }
+    }
+
+    public void set(Object object, Object value)
+    {
+        if (setter == null)
+        {
+            setReflectively(object, value);
+            return;
+        }
+
+        try
+        {
+            setter.invokeExact(object, value);
+        }
+        catch (ClassCastException | NullPointerException e)
+        {
+            // Mirror Field.set(), which reports values of the wrong type as illegal arguments
+            throw new IllegalArgumentException("Could not write field " + field.getName(), e);
+        }
+        catch (RuntimeException | Error e)
+        {
+            throw e;
+        }
+        catch (Throwable t)
+        {
+            throw new IllegalArgumentException("Could not write field " + field.getName(), t);
+        }
+    }
+
+    private void setReflectively(Object object, Object value)
+    {
+        field.setAccessible(true);
+        try
+        {
+            field.set(object, value);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new IllegalArgumentException("Could not write field " + field.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.mizool.technology.gson;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The non-excluded declared fields of a class together with their accessors.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class FieldPlan
+{
+    @Getter
+    private final Set<Field> fields;
+
+    private final Map<Field, FieldAccessor> accessors;
+
+    public static FieldPlan create(Class<?> type, Predicate<Field> isExcluded)
+    {
+        Set<Field> fields = new LinkedHashSet<>();
+        Map<Field, FieldAccessor> accessors = new HashMap<>();
+        for (Field field : type.getDeclaredFields())
+        {
+            if (!isExcluded.test(field))
+            {
+                fields.add(field);
+                accessors.put(field, FieldAccessor.create(field));
+            }
+        }
+        return new FieldPlan(Collections.unmodifiableSet(fields), accessors);
+    }
+
+    /**
+     * @return the accessor of the given field, which may also be a field that is not part of this plan
+     */
+    public FieldAccessor getAccessor(Field field)
+    {
+        FieldAccessor result = accessors.get(field);
+        if (result == null)
+        {
+            result = FieldAccessor.create(field);
+        }
+        return result;
+    }
+}
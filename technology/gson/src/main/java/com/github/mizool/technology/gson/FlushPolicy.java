@@ -0,0 +1,101 @@
+package com.github.mizool.technology.gson;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.time.Duration;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import com.github.mizool.core.configuration.Config;
+import com.github.mizool.core.configuration.PropertyNode;
+
+/**
+ * Decides when a streamed response is flushed: after the first element, once {@code elements} elements were written
+ * since the last flush and once {@code interval} has passed since the last flush. The interval is checked whenever an
+ * element was written. A value of {@code 0} or a {@code null} interval disables the respective policy; if both are
+ * disabled, output is only flushed when the buffers are full.
+ */
+@Value
+class FlushPolicy
+{
+    public static final FlushPolicy NEVER = new FlushPolicy(0, null);
+
+    int elements;
+    Duration interval;
+
+    /**
+     * Reads the properties {@code <writer class name>.flushEvery} (number of elements) and
+     * {@code <writer class name>.flushInterval} (readable duration such as {@code 500 millis}).
+     */
+    public static FlushPolicy configured(@NonNull Class<?> writerClass)
+    {
+        return configured(writerClass, 0);
+    }
+
+    /**
+     * Like {@link #configured(Class)}, but flushes after the given number of elements unless configured otherwise.
+     */
+    public static FlushPolicy configured(@NonNull Class<?> writerClass, int defaultElements)
+    {
+        PropertyNode config = Config.systemProperties()
+            .child(writerClass.getName());
+        int elements = config.child("flushEvery")
+            .intValue()
+            .read()
+            .orElse(defaultElements);
+        Duration interval = config.child("flushInterval")
+            .readableDuration()
+            .read()
+            .orElse(null);
+        return new FlushPolicy(elements, interval);
+    }
+
+    public boolean isEnabled()
+    {
+        return elements > 0 || interval != null;
+    }
+
+    /**
+     * Tracks the elements written to one response.
+     */
+    public Tracker track(@NonNull Flushable target)
+    {
+        return new Tracker(target);
+    }
+
+    public final class Tracker
+    {
+        private final Flushable target;
+        private boolean first = true;
+        private int unflushed;
+        private long lastFlushNanos;
+
+        private Tracker(Flushable target)
+        {
+            this.target = target;
+            lastFlushNanos = System.nanoTime();
+        }
+
+        public void elementWritten() throws IOException
+        {
+            if (!isEnabled())
+            {
+                return;
+            }
+
+            unflushed++;
+            long now = System.nanoTime();
+            boolean due = first ||
+                elements > 0 && unflushed >= elements ||
+                interval != null && now - lastFlushNanos >= interval.toNanos();
+            if (due)
+            {
+                target.flush();
+                first = false;
+                unflushed = 0;
+                lastFlushNanos = now;
+            }
+        }
+    }
+}
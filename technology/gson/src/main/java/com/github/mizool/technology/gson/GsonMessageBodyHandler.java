@@ -2,9 +2,7 @@ package com.github.mizool.technology.gson;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
@@ -15,6 +13,7 @@ import java.util.stream.Stream;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.StreamingOutput;
@@ -24,8 +23,18 @@ import jakarta.ws.rs.ext.Provider;
 
 import lombok.RequiredArgsConstructor;
 
+import com.github.mizool.core.configuration.Config;
+import com.github.mizool.core.configuration.PropertyNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.primitives.Ints;
 
+/**
+ * Reads and writes JSON via buffers that are pooled per thread. The size of the buffers can be configured with the
+ * system property {@code com.github.mizool.technology.gson.GsonMessageBodyHandler.bufferSize} (default: 8192).
+ * Requests with a {@code Content-Length} of up to
+ * {@code com.github.mizool.technology.gson.GsonMessageBodyHandler.maxPresizedLength} bytes (default: 65536) are read
+ * into a buffer that holds the complete request. That buffer is pooled as well.
+ */
 @Provider
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
@@ -35,6 +44,19 @@ import com.google.common.annotations.VisibleForTesting;
 public class GsonMessageBodyHandler implements MessageBodyWriter<Object>, MessageBodyReader<Object>
 {
     private static final Charset CHARSET = StandardCharsets.UTF_8;
+    private static final PropertyNode CONFIG = Config.systemProperties()
+        .child(GsonMessageBodyHandler.class.getName());
+    private static final int MAX_PRESIZED_LENGTH = CONFIG.child("maxPresizedLength")
+        .intValue()
+        .read()
+        .orElse(64 * 1024);
+    /**
+     * Also used by {@link JsonStreamReader}.
+     */
+    static final BufferPool BUFFER_POOL = new BufferPool(CONFIG.child("bufferSize")
+        .intValue()
+        .read()
+        .orElse(8192), MAX_PRESIZED_LENGTH);
 
     private final GsonWrapper gsonWrapper;
 
@@ -42,7 +64,8 @@ public class GsonMessageBodyHandler implements MessageBodyWriter<Object>, Messag
     public boolean isReadable(
         Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
     {
-        return true;
+        // Streams are read by JsonStreamReader
+        return !Stream.class.isAssignableFrom(type);
     }
 
     @Override
@@ -54,13 +77,31 @@ public class GsonMessageBodyHandler implements MessageBodyWriter<Object>, Messag
         MultivaluedMap<String, String> httpHeaders,
         InputStream entityStream) throws IOException
     {
-        return readFrom(entityStream, genericType);
+        return readFrom(entityStream, genericType, getContentLength(httpHeaders));
     }
 
-    private Object readFrom(InputStream entityStream, Type type) throws IOException
+    private int getContentLength(MultivaluedMap<String, String> httpHeaders)
+    {
+        int result = -1;
+        if (httpHeaders != null)
+        {
+            String contentLength = httpHeaders.getFirst(HttpHeaders.CONTENT_LENGTH);
+            if (contentLength != null)
+            {
+                Integer length = Ints.tryParse(contentLength.trim());
+                if (length != null && length <= MAX_PRESIZED_LENGTH)
+                {
+                    result = length;
+                }
+            }
+        }
+        return result;
+    }
+
+    private Object readFrom(InputStream entityStream, Type type, int contentLength) throws IOException
     {
         ensureInstantiationPossible(type);
-        try (InputStreamReader streamReader = new InputStreamReader(entityStream, CHARSET))
+        try (PooledReader streamReader = new PooledReader(entityStream, CHARSET, BUFFER_POOL, contentLength))
         {
             return gsonWrapper.fromJson(streamReader, type);
         }
@@ -118,7 +159,7 @@ public class GsonMessageBodyHandler implements MessageBodyWriter<Object>, Messag
 
     private void writeTo(OutputStream entityStream, Object object, Type type) throws IOException
     {
-        try (OutputStreamWriter writer = new OutputStreamWriter(entityStream, CHARSET))
+        try (PooledWriter writer = new PooledWriter(entityStream, CHARSET, BUFFER_POOL))
         {
             gsonWrapper.toJson(object, type, writer);
         }
@@ -0,0 +1,168 @@
+package com.github.mizool.technology.gson;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Parses elements lazily, either from a JSON array or from a sequence of top level values such as newline delimited
+ * JSON. The reader is closed once all elements have been read, an error occurred or the stream is closed. Errors are
+ * thrown as {@link JsonSyntaxException}, like Gson does.
+ */
+class JsonElementSpliterator<T> extends Spliterators.AbstractSpliterator<T>
+{
+    private final JsonReader jsonReader;
+    private final TypeAdapter<T> adapter;
+    private final boolean array;
+    private boolean done;
+
+    private JsonElementSpliterator(JsonReader jsonReader, TypeAdapter<T> adapter, boolean array)
+    {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.jsonReader = jsonReader;
+        this.adapter = adapter;
+        this.array = array;
+
+        // Like Gson.fromJson(JsonReader, Type), which we don't call for the elements. Also allows multiple top level
+        // values.
+        jsonReader.setLenient(true);
+    }
+
+    /**
+     * Reads the elements of a JSON array. An empty document or {@code null} yields no elements.
+     *
+     * @throws JsonSyntaxException if the document does not start with an array
+     */
+    public static <T> Stream<T> streamArray(JsonReader jsonReader, TypeAdapter<T> adapter) throws IOException
+    {
+        return stream(new JsonElementSpliterator<>(jsonReader, adapter, true));
+    }
+
+    /**
+     * Reads top level values separated by whitespace such as line breaks.
+     */
+    public static <T> Stream<T> streamValues(JsonReader jsonReader, TypeAdapter<T> adapter) throws IOException
+    {
+        return stream(new JsonElementSpliterator<>(jsonReader, adapter, false));
+    }
+
+    private static <T> Stream<T> stream(JsonElementSpliterator<T> spliterator) throws IOException
+    {
+        try
+        {
+            spliterator.begin();
+        }
+        catch (RuntimeException e)
+        {
+            spliterator.jsonReader.close();
+            throw e;
+        }
+        return StreamSupport.stream(spliterator, false)
+            .onClose(spliterator::close);
+    }
+
+    private void begin()
+    {
+        if (!array)
+        {
+            return;
+        }
+
+        try
+        {
+            if (jsonReader.peek() == JsonToken.NULL)
+            {
+                finish();
+                return;
+            }
+            jsonReader.beginArray();
+        }
+        catch (EOFException e)
+        {
+            // Empty document
+            finish();
+        }
+        catch (IllegalStateException | IOException e)
+        {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action)
+    {
+        if (done)
+        {
+            return false;
+        }
+
+        T element;
+        try
+        {
+            if (!hasNext())
+            {
+                finish();
+                return false;
+            }
+            element = adapter.read(jsonReader);
+        }
+        catch (IllegalStateException | IOException e)
+        {
+            finish();
+            throw new JsonSyntaxException(e);
+        }
+        action.accept(element);
+        return true;
+    }
+
+    private boolean hasNext() throws IOException
+    {
+        if (array)
+        {
+            if (jsonReader.hasNext())
+            {
+                return true;
+            }
+            jsonReader.endArray();
+            return false;
+        }
+
+        try
+        {
+            return jsonReader.peek() != JsonToken.END_DOCUMENT;
+        }
+        catch (EOFException e)
+        {
+            // Empty document
+            return false;
+        }
+    }
+
+    private void finish()
+    {
+        done = true;
+        close();
+    }
+
+    private void close()
+    {
+        try
+        {
+            jsonReader.close();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.mizool.technology.gson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Provider;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * Reads JSON arrays into streams which parse the array elements lazily, so that arbitrarily large arrays can be
+ * processed with constant memory. The element type is taken from the generic type of the parameter, e.g.
+ * {@code Stream<ImportRecordDto>}. An empty body or {@code null} yields an empty stream.<br>
+ * <br>
+ * Syntax errors in the opening bracket are reported when reading the entity, those in the elements while consuming
+ * the stream. Both are thrown as {@link JsonSyntaxException} like Gson does, so that they are handled by
+ * {@link com.github.mizool.technology.gson.errorhandling.behavior.JsonSyntaxExceptionBehavior}.
+ */
+@Provider
+@Consumes(MediaType.APPLICATION_JSON)
+@RequiredArgsConstructor(onConstructor = @__(@Inject), access = AccessLevel.PROTECTED)
+public class JsonStreamReader implements MessageBodyReader<Stream<?>>
+{
+    private final GsonWrapper gsonWrapper;
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+    {
+        return Stream.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public Stream<?> readFrom(
+        Class<Stream<?>> type,
+        Type genericType,
+        Annotation[] annotations,
+        MediaType mediaType,
+        MultivaluedMap<String, String> httpHeaders,
+        InputStream entityStream) throws IOException, WebApplicationException
+    {
+        TypeAdapter<?> adapter = gsonWrapper.getAdapter(TypeToken.get(getElementType(genericType)));
+        JsonReader jsonReader = gsonWrapper.newJsonReader(new PooledReader(entityStream,
+            StandardCharsets.UTF_8,
+            GsonMessageBodyHandler.BUFFER_POOL,
+            -1));
+
+        return JsonElementSpliterator.streamArray(jsonReader, adapter);
+    }
+
+    /**
+     * @return the type argument of the given {@code Stream} type, or {@code Object} for the raw type
+     */
+    static Type getElementType(Type genericType)
+    {
+        if (genericType instanceof ParameterizedType)
+        {
+            return ((ParameterizedType) genericType).getActualTypeArguments()[0];
+        }
+        return Object.class;
+    }
+}
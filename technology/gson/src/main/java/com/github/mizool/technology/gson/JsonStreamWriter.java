@@ -7,6 +7,7 @@ import java.io.OutputStreamWriter;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.stream.Stream;
 
 import jakarta.inject.Inject;
@@ -17,17 +18,37 @@ import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.ext.MessageBodyWriter;
 import jakarta.ws.rs.ext.Provider;
 
-import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
+import lombok.NonNull;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonWriter;
 
+/**
+ * Writes streams as JSON arrays. The {@link TypeAdapter} of each element class is looked up once per response.<br>
+ * <br>
+ * By default, output is only flushed when the buffer is full. To send elements to the client earlier, set the system
+ * property {@code com.github.mizool.technology.gson.JsonStreamWriter.flushEvery} to a number of elements and/or
+ * {@code com.github.mizool.technology.gson.JsonStreamWriter.flushInterval} to a readable duration such as
+ * {@code 500 millis}. If either is set, the first element is flushed immediately.
+ */
 @Provider
 @Produces(MediaType.APPLICATION_JSON)
-@RequiredArgsConstructor(onConstructor = @__(@Inject), access = AccessLevel.PROTECTED)
 public class JsonStreamWriter implements MessageBodyWriter<Stream<?>>
 {
     private final GsonWrapper gsonWrapper;
+    private final FlushPolicy flushPolicy;
+
+    @Inject
+    protected JsonStreamWriter(GsonWrapper gsonWrapper)
+    {
+        this(gsonWrapper, FlushPolicy.configured(JsonStreamWriter.class));
+    }
+
+    JsonStreamWriter(@NonNull GsonWrapper gsonWrapper, @NonNull FlushPolicy flushPolicy)
+    {
+        this.gsonWrapper = gsonWrapper;
+        this.flushPolicy = flushPolicy;
+    }
 
     @Override
     public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
@@ -57,9 +78,19 @@ public class JsonStreamWriter implements MessageBodyWriter<Stream<?>>
              JsonWriter jsonWriter = gsonWrapper.newJsonWriter(bufferedWriter);
              Stream<?> streamToClose = stream)
         {
+            // Like Gson.toJson(Object, Type, JsonWriter), which we no longer call for each element
+            jsonWriter.setLenient(true);
+
+            FlushPolicy.Tracker flushTracker = flushPolicy.track(jsonWriter);
+            ElementWriter elementWriter = new ElementWriter(gsonWrapper);
             jsonWriter.beginArray();
-            streamToClose.forEach(element -> gsonWrapper.toJson(element, element.getClass(), jsonWriter));
+            Iterator<?> iterator = streamToClose.iterator();
+            while (iterator.hasNext())
+            {
+                elementWriter.write(jsonWriter, iterator.next());
+                flushTracker.elementWritten();
+            }
             jsonWriter.endArray();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package com.github.mizool.technology.gson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Provider;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * Reads newline delimited JSON into streams which parse the values lazily, so that arbitrarily many values can be
+ * processed with constant memory. The element type is taken from the generic type of the parameter, e.g.
+ * {@code Stream<ImportRecordDto>}. Blank lines are ignored.<br>
+ * <br>
+ * Syntax errors are thrown as {@link com.google.gson.JsonSyntaxException} while consuming the stream, like Gson does.
+ */
+@Provider
+@Consumes(NdjsonStreamWriter.MEDIA_TYPE)
+@RequiredArgsConstructor(onConstructor = @__(@Inject), access = AccessLevel.PROTECTED)
+public class NdjsonStreamReader implements MessageBodyReader<Stream<?>>
+{
+    private final GsonWrapper gsonWrapper;
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+    {
+        return Stream.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public Stream<?> readFrom(
+        Class<Stream<?>> type,
+        Type genericType,
+        Annotation[] annotations,
+        MediaType mediaType,
+        MultivaluedMap<String, String> httpHeaders,
+        InputStream entityStream) throws IOException, WebApplicationException
+    {
+        TypeAdapter<?> adapter = gsonWrapper.getAdapter(TypeToken.get(JsonStreamReader.getElementType(genericType)));
+        JsonReader jsonReader = gsonWrapper.newJsonReader(new PooledReader(entityStream,
+            StandardCharsets.UTF_8,
+            GsonMessageBodyHandler.BUFFER_POOL,
+            -1));
+
+        return JsonElementSpliterator.streamValues(jsonReader, adapter);
+    }
+}
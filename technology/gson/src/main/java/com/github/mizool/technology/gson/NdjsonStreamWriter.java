@@ -0,0 +1,111 @@
+package com.github.mizool.technology.gson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import lombok.NonNull;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Writes streams as newline delimited JSON, i.e. one compact JSON value per line, which clients can process line by
+ * line.<br>
+ * <br>
+ * By default, each line is flushed. To flush in batches, set the system property
+ * {@code com.github.mizool.technology.gson.NdjsonStreamWriter.flushEvery} to a number of elements and/or
+ * {@code com.github.mizool.technology.gson.NdjsonStreamWriter.flushInterval} to a readable duration such as
+ * {@code 500 millis}.
+ */
+@Provider
+@Produces(NdjsonStreamWriter.MEDIA_TYPE)
+public class NdjsonStreamWriter implements MessageBodyWriter<Stream<?>>
+{
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private static final char LINE_SEPARATOR = '\n';
+    private static final BufferPool BUFFER_POOL = GsonMessageBodyHandler.BUFFER_POOL;
+
+    private final GsonWrapper gsonWrapper;
+    private final FlushPolicy flushPolicy;
+
+    @Inject
+    protected NdjsonStreamWriter(GsonWrapper gsonWrapper)
+    {
+        this(gsonWrapper, FlushPolicy.configured(NdjsonStreamWriter.class, 1));
+    }
+
+    NdjsonStreamWriter(@NonNull GsonWrapper gsonWrapper, @NonNull FlushPolicy flushPolicy)
+    {
+        this.gsonWrapper = gsonWrapper;
+        this.flushPolicy = flushPolicy;
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+    {
+        return Stream.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public long getSize(
+        Stream<?> stream, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+    {
+        return -1;
+    }
+
+    @Override
+    public void writeTo(
+        Stream<?> stream,
+        Class<?> type,
+        Type genericType,
+        Annotation[] annotations,
+        MediaType mediaType,
+        MultivaluedMap<String, Object> httpHeaders,
+        OutputStream entityStream) throws IOException, WebApplicationException
+    {
+        try (PooledWriter writer = new PooledWriter(entityStream, StandardCharsets.UTF_8, BUFFER_POOL);
+             Stream<?> streamToClose = stream)
+        {
+            // Not closed itself, as it refuses to close an empty document
+            JsonWriter jsonWriter = createJsonWriter(writer);
+            FlushPolicy.Tracker flushTracker = flushPolicy.track(jsonWriter);
+            ElementWriter elementWriter = new ElementWriter(gsonWrapper);
+            Iterator<?> iterator = streamToClose.iterator();
+            while (iterator.hasNext())
+            {
+                elementWriter.write(jsonWriter, iterator.next());
+
+                // JsonWriter doesn't buffer, so we can write the separator directly
+                writer.write(LINE_SEPARATOR);
+                flushTracker.elementWritten();
+            }
+        }
+    }
+
+    /**
+     * Unlike {@link GsonWrapper#newJsonWriter(java.io.Writer)}, never indents, as each value must fit on one line.
+     */
+    private JsonWriter createJsonWriter(PooledWriter writer)
+    {
+        JsonWriter result = new JsonWriter(writer);
+        result.setHtmlSafe(gsonWrapper.htmlSafe());
+        result.setSerializeNulls(gsonWrapper.serializeNulls());
+
+        // Allows multiple top level values, and non-finite numbers like Gson.toJson()
+        result.setLenient(true);
+        return result;
+    }
+}
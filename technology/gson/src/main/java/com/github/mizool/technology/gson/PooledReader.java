@@ -0,0 +1,177 @@
+package com.github.mizool.technology.gson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import lombok.NonNull;
+
+/**
+ * Decodes an input stream like {@link java.io.InputStreamReader}, but reads the stream in large blocks into a byte
+ * buffer taken from a {@link BufferPool} and decodes directly into the buffer of the caller. If the length of the
+ * stream is known in advance, the byte buffer is sized to hold it completely.
+ */
+class PooledReader extends Reader
+{
+    private final InputStream in;
+    private final BufferPool bufferPool;
+    private final CharsetDecoder decoder;
+    private final char[] singleChar = new char[2];
+
+    private ByteBuffer bytes;
+    private boolean endOfInput;
+    private boolean decoded;
+    private boolean flushed;
+    private int pendingChar = -1;
+
+    /**
+     * @param expectedLength the length of the stream, or a negative value if unknown. Streams which are longer than
+     * expected are read completely nonetheless.
+     */
+    public PooledReader(
+        @NonNull InputStream in, @NonNull Charset charset, @NonNull BufferPool bufferPool, int expectedLength)
+    {
+        this.in = in;
+        this.bufferPool = bufferPool;
+        decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        bytes = ByteBuffer.wrap(bufferPool.takeBytes(Math.max(expectedLength, 0)));
+        bytes.limit(0);
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+        int count = read(singleChar, 0, 1);
+        return count < 0 ? -1 : singleChar[0];
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException
+    {
+        ensureOpen();
+        if (length == 0)
+        {
+            return 0;
+        }
+
+        int written = 0;
+        if (pendingChar >= 0)
+        {
+            buffer[offset] = (char) pendingChar;
+            pendingChar = -1;
+            written = 1;
+            if (length == 1)
+            {
+                return written;
+            }
+        }
+
+        if (length - written == 1)
+        {
+            // A surrogate pair needs two chars, so decode into a buffer of our own and keep the second one
+            int count = decode(singleChar, 0, 2);
+            if (count < 0)
+            {
+                return written == 0 ? -1 : written;
+            }
+            buffer[offset + written] = singleChar[0];
+            if (count == 2)
+            {
+                pendingChar = singleChar[1];
+            }
+            return written + 1;
+        }
+
+        int count = decode(buffer, offset + written, length - written);
+        if (count < 0)
+        {
+            return written == 0 ? -1 : written;
+        }
+        return written + count;
+    }
+
+    private int decode(char[] buffer, int offset, int length) throws IOException
+    {
+        CharBuffer out = CharBuffer.wrap(buffer, offset, length);
+        while (true)
+        {
+            if (flushed)
+            {
+                return -1;
+            }
+
+            CoderResult result = decoded ? CoderResult.UNDERFLOW : decoder.decode(bytes, out, endOfInput);
+            if (result.isError())
+            {
+                result.throwException();
+            }
+
+            if (endOfInput && result.isUnderflow())
+            {
+                decoded = true;
+                result = decoder.flush(out);
+                if (result.isUnderflow())
+                {
+                    flushed = true;
+                }
+            }
+
+            int count = out.position() - offset;
+            if (count > 0)
+            {
+                return count;
+            }
+            if (!flushed)
+            {
+                fill();
+            }
+        }
+    }
+
+    private void fill() throws IOException
+    {
+        bytes.compact();
+        int requested = bytes.remaining();
+        int count = in.readNBytes(bytes.array(), bytes.position(), requested);
+        bytes.position(bytes.position() + count);
+        bytes.flip();
+        if (count < requested)
+        {
+            endOfInput = true;
+        }
+    }
+
+    private void ensureOpen() throws IOException
+    {
+        if (bytes == null)
+        {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    @Override
+    public boolean ready() throws IOException
+    {
+        ensureOpen();
+        return bytes.hasRemaining() || pendingChar >= 0;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if (bytes != null)
+        {
+            bufferPool.returnBytes(bytes.array());
+            bytes = null;
+            in.close();
+        }
+    }
+}
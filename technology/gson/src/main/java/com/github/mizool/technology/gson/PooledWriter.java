@@ -0,0 +1,167 @@
+package com.github.mizool.technology.gson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import lombok.NonNull;
+
+/**
+ * Encodes characters like {@link java.io.OutputStreamWriter}, but collects them in a char buffer and writes the
+ * encoded bytes in large blocks. Both buffers are taken from a {@link BufferPool}.
+ */
+class PooledWriter extends Writer
+{
+    private final OutputStream out;
+    private final BufferPool bufferPool;
+    private final CharsetEncoder encoder;
+
+    private char[] chars;
+    private int charCount;
+    private ByteBuffer bytes;
+
+    public PooledWriter(@NonNull OutputStream out, @NonNull Charset charset, @NonNull BufferPool bufferPool)
+    {
+        this.out = out;
+        this.bufferPool = bufferPool;
+        encoder = charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        chars = bufferPool.takeChars();
+        bytes = ByteBuffer.wrap(bufferPool.takeBytes(0));
+    }
+
+    @Override
+    public void write(int c) throws IOException
+    {
+        ensureOpen();
+        if (charCount == chars.length)
+        {
+            encodeChars(false);
+        }
+        chars[charCount++] = (char) c;
+    }
+
+    @Override
+    public void write(char[] buffer, int offset, int length) throws IOException
+    {
+        ensureOpen();
+        int end = offset + length;
+        int position = offset;
+        while (position < end)
+        {
+            if (charCount == chars.length)
+            {
+                encodeChars(false);
+            }
+            int count = Math.min(end - position, chars.length - charCount);
+            System.arraycopy(buffer, position, chars, charCount, count);
+            charCount += count;
+            position += count;
+        }
+    }
+
+    @Override
+    public void write(String string, int offset, int length) throws IOException
+    {
+        ensureOpen();
+        int end = offset + length;
+        int position = offset;
+        while (position < end)
+        {
+            if (charCount == chars.length)
+            {
+                encodeChars(false);
+            }
+            int count = Math.min(end - position, chars.length - charCount);
+            string.getChars(position, position + count, chars, charCount);
+            charCount += count;
+            position += count;
+        }
+    }
+
+    /**
+     * Encodes the buffered chars. Unless {@code endOfInput} is set, the high surrogate of an incomplete surrogate pair
+     * stays in the buffer.
+     */
+    private void encodeChars(boolean endOfInput) throws IOException
+    {
+        CharBuffer in = CharBuffer.wrap(chars, 0, charCount);
+        while (true)
+        {
+            CoderResult result = encoder.encode(in, bytes, endOfInput);
+            if (result.isError())
+            {
+                result.throwException();
+            }
+            if (result.isUnderflow())
+            {
+                break;
+            }
+            writeBytes();
+        }
+
+        int remaining = in.remaining();
+        System.arraycopy(chars, in.position(), chars, 0, remaining);
+        charCount = remaining;
+    }
+
+    private void writeBytes() throws IOException
+    {
+        if (bytes.position() > 0)
+        {
+            out.write(bytes.array(), 0, bytes.position());
+            bytes.clear();
+        }
+    }
+
+    private void ensureOpen() throws IOException
+    {
+        if (chars == null)
+        {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    @Override
+    public void flush() throws IOException
+    {
+        ensureOpen();
+        encodeChars(false);
+        writeBytes();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if (chars == null)
+        {
+            return;
+        }
+
+        try (OutputStream stream = out)
+        {
+            encodeChars(true);
+            while (encoder.flush(bytes)
+                .isOverflow())
+            {
+                writeBytes();
+            }
+            writeBytes();
+        }
+        finally
+        {
+            bufferPool.returnChars(chars);
+            bufferPool.returnBytes(bytes.array());
+            chars = null;
+            bytes = null;
+        }
+    }
+}
@@ -2,14 +2,33 @@ package com.github.mizool.technology.gson;
 
 import org.kohsuke.MetaInfServices;
 
+import com.github.mizool.core.configuration.Config;
 import com.google.gson.GsonBuilder;
 
+/**
+ * Registers the {@link StrictDeserializer}. If the system property
+ * {@code com.github.mizool.technology.gson.StrictDeserializerGsonBuilderListener.streaming} is {@code true}, the
+ * {@link StrictTypeAdapterFactory} is registered instead.
+ */
 @MetaInfServices
 public class StrictDeserializerGsonBuilderListener implements GsonBuilderListener
 {
     @Override
     public void onTypeAdapterRegistration(GsonBuilder gsonBuilder)
     {
-        gsonBuilder.registerTypeAdapter(Object.class, new StrictDeserializer());
+        boolean streaming = Config.systemProperties()
+            .child(StrictDeserializerGsonBuilderListener.class.getName())
+            .child("streaming")
+            .booleanValue()
+            .read()
+            .orElse(false);
+        if (streaming)
+        {
+            gsonBuilder.registerTypeAdapterFactory(new StrictTypeAdapterFactory());
+        }
+        else
+        {
+            gsonBuilder.registerTypeAdapter(Object.class, new StrictDeserializer());
+        }
     }
-}
\ No newline at end of file
+}
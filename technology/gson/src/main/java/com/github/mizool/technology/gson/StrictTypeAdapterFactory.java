@@ -0,0 +1,214 @@
+package com.github.mizool.technology.gson;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.RequiredArgsConstructor;
+
+import com.github.mizool.core.exception.BadRequestException;
+import com.github.mizool.core.exception.CodeInconsistencyException;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.internal.bind.ReflectiveTypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Streaming variant of {@link StrictDeserializer}: reads objects directly from the {@link JsonReader} instead of a
+ * {@link com.google.gson.JsonElement} tree and rejects properties without a matching declared field with a
+ * {@link BadRequestException}. The field table of each class is built once per {@link Gson} instance.<br>
+ * <br>
+ * Handles concrete classes with a public no-arg constructor outside of the JDK and Gson which Gson would otherwise
+ * handle reflectively. Classes with an adapter registered via {@link com.google.gson.GsonBuilder} or annotated with
+ * {@link JsonAdapter} are left alone. Fields are selected and named like Gson does, honoring {@code transient},
+ * exclusion strategies and {@link SerializedName}. Serialization is left to the adapter Gson would use otherwise.
+ */
+public class StrictTypeAdapterFactory implements TypeAdapterFactory
+{
+    private static final String[] EXCLUDED_PACKAGES = { "java.", "javax.", "jdk.", "sun.", "com.google.gson." };
+
+    @RequiredArgsConstructor
+    private static class BoundField
+    {
+        private final Field field;
+        private final FieldAccessor accessor;
+        private final TypeAdapter<?> adapter;
+    }
+
+    @RequiredArgsConstructor
+    private static class Adapter<T> extends TypeAdapter<T>
+    {
+        private final Constructor<T> constructor;
+        private final Map<String, BoundField> fields;
+        private final TypeAdapter<T> delegate;
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException
+        {
+            delegate.write(out, value);
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException
+        {
+            if (in.peek() == JsonToken.NULL)
+            {
+                in.nextNull();
+                return null;
+            }
+
+            T result = instantiate();
+            in.beginObject();
+            while (in.hasNext())
+            {
+                String fieldName = in.nextName();
+                BoundField boundField = fields.get(fieldName);
+                if (boundField == null)
+                {
+                    throw new BadRequestException(constructor.getDeclaringClass()
+                        .getName() + " has no field named " + fieldName);
+                }
+                readField(in, result, boundField);
+            }
+            in.endObject();
+            return result;
+        }
+
+        private T instantiate()
+        {
+            try
+            {
+                return constructor.newInstance();
+            }
+            catch (ReflectiveOperationException e)
+            {
+                throw new CodeInconsistencyException(e);
+            }
+        }
+
+        private void readField(JsonReader in, T result, BoundField boundField) throws IOException
+        {
+            String path = in.getPath();
+            try
+            {
+                // Inside the try block, as a null for a primitive field is rejected when setting it
+                boundField.accessor.set(result, boundField.adapter.read(in));
+            }
+            catch (RuntimeException e)
+            {
+                throw new BadRequestException("could not deserialize targetField " +
+                    boundField.field.getName() +
+                    " value at " +
+                    path, e);
+            }
+        }
+    }
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type)
+    {
+        @SuppressWarnings("unchecked") Class<T> rawType = (Class<T>) type.getRawType();
+        if (!isCandidate(rawType))
+        {
+            return null;
+        }
+
+        Constructor<T> constructor;
+        try
+        {
+            constructor = rawType.getConstructor();
+            constructor.setAccessible(true);
+        }
+        catch (NoSuchMethodException | RuntimeException e)
+        {
+            return null;
+        }
+
+        TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+        if (!(delegate instanceof ReflectiveTypeAdapterFactory.Adapter))
+        {
+            // Registered via GsonBuilder.registerTypeAdapter() or another factory, which we must not shadow
+            return null;
+        }
+
+        return new Adapter<>(constructor, createFields(gson, rawType), delegate);
+    }
+
+    private static boolean isCandidate(Class<?> rawType)
+    {
+        if (rawType.isPrimitive() ||
+            rawType.isArray() ||
+            rawType.isEnum() ||
+            rawType.isInterface() ||
+            rawType.isAnonymousClass() ||
+            rawType.isLocalClass() ||
+            Modifier.isAbstract(rawType.getModifiers()) ||
+            rawType.isAnnotationPresent(JsonAdapter.class))
+        {
+            return false;
+        }
+
+        String className = rawType.getName();
+        for (String excludedPackage : EXCLUDED_PACKAGES)
+        {
+            if (className.startsWith(excludedPackage))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Selects and names the fields like the reflective adapter of Gson does, so that its output can be read again.
+     */
+    private static Map<String, BoundField> createFields(Gson gson, Class<?> rawType)
+    {
+        Map<String, BoundField> result = new HashMap<>();
+        for (Class<?> current = rawType; current != Object.class; current = current.getSuperclass())
+        {
+            for (Field field : current.getDeclaredFields())
+            {
+                if (!field.isSynthetic() && !gson.excluder()
+                    .excludeField(field, false))
+                {
+                    TypeAdapter<?> adapter = gson.getAdapter(TypeToken.get(field.getGenericType()));
+                    BoundField boundField = new BoundField(field, FieldAccessor.create(field), adapter);
+                    for (String name : getNames(gson, field))
+                    {
+                        // Fields of subclasses hide those of superclasses with the same name
+                        result.putIfAbsent(name, boundField);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<String> getNames(Gson gson, Field field)
+    {
+        SerializedName serializedName = field.getAnnotation(SerializedName.class);
+        if (serializedName == null)
+        {
+            return List.of(gson.fieldNamingStrategy()
+                .translateName(field));
+        }
+
+        List<String> result = new ArrayList<>();
+        result.add(serializedName.value());
+        result.addAll(Arrays.asList(serializedName.alternate()));
+        return result;
+    }
+}
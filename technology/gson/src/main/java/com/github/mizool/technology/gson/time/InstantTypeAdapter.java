@@ -0,0 +1,38 @@
+package com.github.mizool.technology.gson.time;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Writes instants in UTC like {@link ZonedDateTimeTypeAdapter}, and reads them with any offset.
+ */
+public class InstantTypeAdapter extends StringBasedTypeAdapter<Instant>
+{
+    private static final ZonedDateTimeConverter CONVERTER = new ZonedDateTimeConverter();
+
+    @Override
+    protected String format(Instant value)
+    {
+        String result = UtcDateTimeFormat.format(LocalDateTime.ofEpochSecond(value.getEpochSecond(),
+            value.getNano(),
+            ZoneOffset.UTC));
+        if (result == null)
+        {
+            result = CONVERTER.serialize(value.atZone(ZoneOffset.UTC));
+        }
+        return result;
+    }
+
+    @Override
+    protected Instant parse(String text)
+    {
+        LocalDateTime utcDateTime = UtcDateTimeFormat.parse(text);
+        if (utcDateTime != null)
+        {
+            return utcDateTime.toInstant(ZoneOffset.UTC);
+        }
+        return CONVERTER.deserialize(text)
+            .toInstant();
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.mizool.technology.gson.time;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+public class LocalDateTimeTypeAdapter extends StringBasedTypeAdapter<LocalDateTime>
+{
+    @Override
+    protected String format(LocalDateTime value)
+    {
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value);
+    }
+
+    @Override
+    protected LocalDateTime parse(String text)
+    {
+        return LocalDateTime.parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+}
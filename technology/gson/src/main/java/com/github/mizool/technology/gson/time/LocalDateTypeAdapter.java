@@ -0,0 +1,20 @@
+package com.github.mizool.technology.gson.time;
+
+import java.time.LocalDate;
+
+import com.github.mizool.core.rest.time.RestLocalDateFormat;
+
+public class LocalDateTypeAdapter extends StringBasedTypeAdapter<LocalDate>
+{
+    @Override
+    protected String format(LocalDate value)
+    {
+        return RestLocalDateFormat.SERIALIZATION.format(value);
+    }
+
+    @Override
+    protected LocalDate parse(String text)
+    {
+        return LocalDate.parse(text, RestLocalDateFormat.DESERIALIZATION);
+    }
+}
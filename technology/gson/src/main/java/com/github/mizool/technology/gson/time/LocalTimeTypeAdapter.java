@@ -0,0 +1,19 @@
+package com.github.mizool.technology.gson.time;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+public class LocalTimeTypeAdapter extends StringBasedTypeAdapter<LocalTime>
+{
+    @Override
+    protected String format(LocalTime value)
+    {
+        return DateTimeFormatter.ISO_LOCAL_TIME.format(value);
+    }
+
+    @Override
+    protected LocalTime parse(String text)
+    {
+        return LocalTime.parse(text, DateTimeFormatter.ISO_LOCAL_TIME);
+    }
+}
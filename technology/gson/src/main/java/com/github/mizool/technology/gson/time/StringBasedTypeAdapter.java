@@ -0,0 +1,52 @@
+package com.github.mizool.technology.gson.time;
+
+import java.io.IOException;
+import java.time.format.DateTimeParseException;
+
+import com.github.mizool.core.exception.BadRequestException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Streams values as JSON strings, without building a {@link com.google.gson.JsonElement} tree for each value.
+ * {@code null} is passed through.
+ */
+abstract class StringBasedTypeAdapter<T> extends TypeAdapter<T>
+{
+    @Override
+    public void write(JsonWriter out, T value) throws IOException
+    {
+        if (value == null)
+        {
+            out.nullValue();
+            return;
+        }
+        out.value(format(value));
+    }
+
+    @Override
+    public T read(JsonReader in) throws IOException
+    {
+        if (in.peek() == JsonToken.NULL)
+        {
+            in.nextNull();
+            return null;
+        }
+
+        String text = in.nextString();
+        try
+        {
+            return parse(text);
+        }
+        catch (DateTimeParseException e)
+        {
+            throw new BadRequestException("Could not deserialize", e);
+        }
+    }
+
+    protected abstract String format(T value);
+
+    protected abstract T parse(String text);
+}
@@ -1,5 +1,9 @@
 package com.github.mizool.technology.gson.time;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZonedDateTime;
 
 import org.kohsuke.MetaInfServices;
@@ -14,5 +18,9 @@ public class TimeGsonBuilderListener implements GsonBuilderListener
     public void onTypeAdapterRegistration(GsonBuilder gsonBuilder)
     {
         gsonBuilder.registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeTypeAdapter());
+        gsonBuilder.registerTypeAdapter(Instant.class, new InstantTypeAdapter());
+        gsonBuilder.registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter());
+        gsonBuilder.registerTypeAdapter(LocalDateTime.class, new LocalDateTimeTypeAdapter());
+        gsonBuilder.registerTypeAdapter(LocalTime.class, new LocalTimeTypeAdapter());
     }
-}
\ No newline at end of file
+}
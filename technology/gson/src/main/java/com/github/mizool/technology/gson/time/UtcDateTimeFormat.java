@@ -0,0 +1,149 @@
+package com.github.mizool.technology.gson.time;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+import lombok.experimental.UtilityClass;
+
+import com.github.mizool.core.rest.time.RestDateTimeFormat;
+
+/**
+ * Formats and parses UTC timestamps like {@code 2018-01-01T00:00:00.000Z} without going through a
+ * {@link java.time.format.DateTimeFormatter}. Produces the same text as {@link RestDateTimeFormat#SERIALIZATION} and
+ * accepts a subset of what {@link RestDateTimeFormat#DESERIALIZATION} accepts; anything else is left to the
+ * formatters.
+ */
+@UtilityClass
+class UtcDateTimeFormat
+{
+    private static final int MAX_YEAR = 9999;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+    private static final int MAX_FRACTION_DIGITS = 9;
+
+    private static final int FORMATTED_LENGTH = 24;
+    private static final int WITHOUT_FRACTION_LENGTH = 20;
+    private static final int FRACTION_START = 19;
+
+    /**
+     * @return the formatted timestamp, or {@code null} if the year needs more than four digits
+     */
+    public String format(LocalDateTime dateTime)
+    {
+        int year = dateTime.getYear();
+        if (year < 0 || year > MAX_YEAR)
+        {
+            return null;
+        }
+
+        char[] chars = new char[FORMATTED_LENGTH];
+        putDigits(chars, 0, year, 4);
+        chars[4] = '-';
+        putDigits(chars, 5, dateTime.getMonthValue(), 2);
+        chars[7] = '-';
+        putDigits(chars, 8, dateTime.getDayOfMonth(), 2);
+        chars[10] = 'T';
+        putDigits(chars, 11, dateTime.getHour(), 2);
+        chars[13] = ':';
+        putDigits(chars, 14, dateTime.getMinute(), 2);
+        chars[16] = ':';
+        putDigits(chars, 17, dateTime.getSecond(), 2);
+        chars[19] = '.';
+        putDigits(chars, 20, dateTime.getNano() / NANOS_PER_MILLI, 3);
+        chars[23] = 'Z';
+        return new String(chars);
+    }
+
+    private void putDigits(char[] chars, int offset, int value, int digits)
+    {
+        for (int index = offset + digits - 1; index >= offset; index--)
+        {
+            chars[index] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * Parses {@code yyyy-MM-ddTHH:mm:ssZ} with an optional fraction of up to nine digits.
+     *
+     * @return the local date and time in UTC, or {@code null} if the text has a different format or is not a valid
+     * date
+     */
+    public LocalDateTime parse(String text)
+    {
+        int length = text.length();
+        if (length < WITHOUT_FRACTION_LENGTH ||
+            text.charAt(length - 1) != 'Z' ||
+            text.charAt(4) != '-' ||
+            text.charAt(7) != '-' ||
+            text.charAt(10) != 'T' ||
+            text.charAt(13) != ':' ||
+            text.charAt(16) != ':')
+        {
+            return null;
+        }
+
+        int year = parseDigits(text, 0, 4);
+        int month = parseDigits(text, 5, 2);
+        int day = parseDigits(text, 8, 2);
+        int hour = parseDigits(text, 11, 2);
+        int minute = parseDigits(text, 14, 2);
+        int second = parseDigits(text, 17, 2);
+        int nano = parseFraction(text, length);
+        if ((year | month | day | hour | minute | second | nano) < 0)
+        {
+            return null;
+        }
+
+        try
+        {
+            return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+        }
+        catch (DateTimeException e)
+        {
+            // Let the formatter decide, as it resolves some of these leniently
+            return null;
+        }
+    }
+
+    /**
+     * @return the nanoseconds of the optional fraction, or {@code -1} if it is malformed
+     */
+    private int parseFraction(String text, int length)
+    {
+        if (length == WITHOUT_FRACTION_LENGTH)
+        {
+            return 0;
+        }
+
+        int digits = length - WITHOUT_FRACTION_LENGTH - 1;
+        if (text.charAt(FRACTION_START) != '.' || digits < 1 || digits > MAX_FRACTION_DIGITS)
+        {
+            return -1;
+        }
+
+        int fraction = parseDigits(text, FRACTION_START + 1, digits);
+        for (int i = digits; i < MAX_FRACTION_DIGITS && fraction >= 0; i++)
+        {
+            fraction *= 10;
+        }
+        return fraction;
+    }
+
+    /**
+     * @return the value, or {@code -1} if a character is not an ASCII digit
+     */
+    private int parseDigits(String text, int offset, int digits)
+    {
+        int result = 0;
+        for (int index = offset; index < offset + digits; index++)
+        {
+            int digit = text.charAt(index) - '0';
+            if (digit < 0 || digit > 9)
+            {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+}
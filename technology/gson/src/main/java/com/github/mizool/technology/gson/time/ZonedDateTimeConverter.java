@@ -1,5 +1,7 @@
 package com.github.mizool.technology.gson.time;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 
@@ -10,6 +12,12 @@ public class ZonedDateTimeConverter
 {
     public ZonedDateTime deserialize(String isoString)
     {
+        LocalDateTime utcDateTime = UtcDateTimeFormat.parse(isoString);
+        if (utcDateTime != null)
+        {
+            return utcDateTime.atZone(ZoneOffset.UTC);
+        }
+
         try
         {
             return ZonedDateTime.parse(isoString, RestDateTimeFormat.DESERIALIZATION);
@@ -22,6 +30,15 @@ public class ZonedDateTimeConverter
 
     public String serialize(ZonedDateTime zonedDateTime)
     {
+        if (zonedDateTime.getOffset()
+            .equals(ZoneOffset.UTC))
+        {
+            String result = UtcDateTimeFormat.format(zonedDateTime.toLocalDateTime());
+            if (result != null)
+            {
+                return result;
+            }
+        }
         return RestDateTimeFormat.SERIALIZATION.format(zonedDateTime);
     }
-}
\ No newline at end of file
+}
@@ -1,26 +1,20 @@
 package com.github.mizool.technology.gson.time;
 
-import java.lang.reflect.Type;
 import java.time.ZonedDateTime;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
-public class ZonedDateTimeTypeAdapter implements JsonSerializer<ZonedDateTime>, JsonDeserializer<ZonedDateTime>
+public class ZonedDateTimeTypeAdapter extends StringBasedTypeAdapter<ZonedDateTime>
 {
+    private static final ZonedDateTimeConverter CONVERTER = new ZonedDateTimeConverter();
+
     @Override
-    public ZonedDateTime deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
+    protected String format(ZonedDateTime value)
     {
-        return new ZonedDateTimeConverter().deserialize(json.getAsString());
+        return CONVERTER.serialize(value);
     }
 
     @Override
-    public JsonElement serialize(ZonedDateTime src, Type typeOfSrc, JsonSerializationContext context)
+    protected ZonedDateTime parse(String text)
     {
-        return new JsonPrimitive(new ZonedDateTimeConverter().serialize(src));
+        return CONVERTER.deserialize(text);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,105 @@
+package com.github.mizool.technology.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+public class TestAbstractTypeAdapter
+{
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    static class TestJsonObject
+    {
+        private String content;
+        private int count;
+        private final List<String> tags = null;
+        private String secret;
+    }
+
+    private static class TestTypeAdapter extends AbstractTypeAdapter<TestJsonObject>
+    {
+        TestTypeAdapter()
+        {
+            super(new ExclusionStrategy()
+            {
+                @Override
+                public boolean shouldSkipField(FieldAttributes fieldAttributes)
+                {
+                    return fieldAttributes.getName()
+                        .equals("secret");
+                }
+
+                @Override
+                public boolean shouldSkipClass(Class<?> type)
+                {
+                    return false;
+                }
+            });
+        }
+    }
+
+    private Gson gson;
+
+    @BeforeMethod
+    public void configure()
+    {
+        gson = new GsonBuilder().registerTypeAdapter(TestJsonObject.class, new TestTypeAdapter())
+            .create();
+    }
+
+    @Test
+    public void testSerializeSkipsExcludedFields()
+    {
+        String result = gson.toJson(new TestJsonObject("test", 3, "hidden"));
+
+        assertThat(result).isEqualTo("{\"content\":\"test\",\"count\":3}");
+    }
+
+    @Test
+    public void testDeserializeWritesFinalFields()
+    {
+        String inputJson = "{\"content\":\"test\",\"count\":3,\"tags\":[\"a\",\"b\"],\"secret\":\"ignored\"}";
+
+        TestJsonObject result = gson.fromJson(inputJson, TestJsonObject.class);
+
+        assertThat(result.content).isEqualTo("test");
+        assertThat(result.count).isEqualTo(3);
+        assertThat(result.tags).containsExactly("a", "b");
+        assertThat(result.secret).isNull();
+    }
+
+    @Test
+    public void testRoundTripIsRepeatable()
+    {
+        TestJsonObject testJsonObject = new TestJsonObject("test", 3, null);
+
+        for (int i = 0; i < 3; i++)
+        {
+            TestJsonObject result = gson.fromJson(gson.toJson(testJsonObject), TestJsonObject.class);
+            assertThat(result).isEqualTo(testJsonObject);
+        }
+    }
+
+    @Test
+    public void testDeserializeNullIntoPrimitiveFails()
+    {
+        String inputJson = "{\"content\":\"test\"}";
+
+        assertThatThrownBy(() -> gson.fromJson(inputJson, TestJsonObject.class)).isInstanceOf(
+            IllegalArgumentException.class);
+    }
+}
@@ -4,18 +4,27 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.lang.reflect.Type;
-
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.StreamingOutput;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import com.google.common.io.ByteStreams;
+import com.google.gson.Gson;
 import com.google.gson.JsonIOException;
 
 public class TestGsonMessageBodyHandler
@@ -106,6 +115,24 @@ public class TestGsonMessageBodyHandler
         }
     }
 
+    @Test
+    public void testRoundTripWithContentLength() throws IOException
+    {
+        GsonMessageBodyHandler realHandler = new GsonMessageBodyHandler(new GsonWrapper(new Gson()));
+        Map<String, String> expected = Map.of("greeting", "Grüße 😀", "filler", "x".repeat(20000));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        realHandler.writeTo(expected, null, Map.class, null, null, null, out);
+        byte[] json = out.toByteArray();
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        headers.putSingle(HttpHeaders.CONTENT_LENGTH, String.valueOf(json.length));
+
+        Object actual = realHandler.readFrom(null, HashMap.class, null, null, headers, new ByteArrayInputStream(json));
+
+        assertThat(new String(json, StandardCharsets.UTF_8)).contains("Grüße 😀");
+        assertThat(actual).isEqualTo(expected);
+    }
+
     @Test
     public void testGetSize()
     {
@@ -116,10 +143,17 @@ public class TestGsonMessageBodyHandler
     @Test
     public void testIsReadable()
     {
-        boolean readable = this.handler.isReadable(null, null, null, null);
+        boolean readable = this.handler.isReadable(Object.class, null, null, null);
         assertThat(readable).isTrue();
     }
 
+    @Test
+    public void testStreamIsNotReadable()
+    {
+        boolean readable = this.handler.isReadable(Stream.class, null, null, null);
+        assertThat(readable).isFalse();
+    }
+
     @Test
     public void testObjectsAreWriteable()
     {
@@ -0,0 +1,103 @@
+package com.github.mizool.technology.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import lombok.AllArgsConstructor;
+
+import org.testng.annotations.Test;
+
+import com.google.gson.GsonBuilder;
+
+public class TestJsonStreamWriter
+{
+    @AllArgsConstructor
+    private static class Element
+    {
+        private String name;
+    }
+
+    /**
+     * Records the size of the output on each flush.
+     */
+    private static class FlushRecordingStream extends ByteArrayOutputStream
+    {
+        private final List<String> flushes = new ArrayList<>();
+
+        @Override
+        public void flush()
+        {
+            flushes.add(toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testWritesElementsOfDifferentClasses() throws IOException
+    {
+        JsonStreamWriter writer = new JsonStreamWriter(new GsonWrapper(new GsonBuilder().create()), FlushPolicy.NEVER);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.writeTo(Stream.of(new Element("a"), 1, new Element("b"), "c"),
+            Stream.class,
+            null,
+            null,
+            null,
+            null,
+            out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[{\"name\":\"a\"},1,{\"name\":\"b\"},\"c\"]");
+    }
+
+    @Test
+    public void testWritesNullElements() throws IOException
+    {
+        JsonStreamWriter writer = new JsonStreamWriter(new GsonWrapper(new GsonBuilder().create()), FlushPolicy.NEVER);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.writeTo(Stream.of("a", null), Stream.class, null, null, null, null, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[\"a\",null]");
+    }
+
+    @Test
+    public void testFlushesEveryNElements() throws IOException
+    {
+        JsonStreamWriter writer = new JsonStreamWriter(new GsonWrapper(new GsonBuilder().create()),
+            new FlushPolicy(2, null));
+        FlushRecordingStream out = new FlushRecordingStream();
+
+        writer.writeTo(Stream.of(1, 2, 3, 4, 5), Stream.class, null, null, null, null, out);
+
+        assertThat(out.flushes).startsWith("[1", "[1,2,3", "[1,2,3,4,5");
+    }
+
+    @Test
+    public void testFlushesAfterInterval() throws IOException
+    {
+        JsonStreamWriter writer = new JsonStreamWriter(new GsonWrapper(new GsonBuilder().create()),
+            new FlushPolicy(0, Duration.ZERO));
+        FlushRecordingStream out = new FlushRecordingStream();
+
+        writer.writeTo(Stream.of(1, 2, 3), Stream.class, null, null, null, null, out);
+
+        assertThat(out.flushes).startsWith("[1", "[1,2", "[1,2,3");
+    }
+
+    @Test
+    public void testDoesNotFlushWithoutPolicy() throws IOException
+    {
+        JsonStreamWriter writer = new JsonStreamWriter(new GsonWrapper(new GsonBuilder().create()), FlushPolicy.NEVER);
+        FlushRecordingStream out = new FlushRecordingStream();
+
+        writer.writeTo(Stream.of(1, 2, 3), Stream.class, null, null, null, null, out);
+
+        assertThat(out.flushes).allMatch(flushed -> flushed.equals("[1,2,3]"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.mizool.technology.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+
+public class TestNdjsonStreamReader
+{
+    private static final Type ELEMENT_STREAM_TYPE = new TypeToken<Stream<Element>>()
+    {
+    }.getType();
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class Element
+    {
+        private String name;
+        private int count;
+    }
+
+    private NdjsonStreamReader reader;
+
+    @BeforeMethod
+    public void setUp()
+    {
+        reader = new NdjsonStreamReader(new GsonWrapper(new GsonBuilder().create()));
+    }
+
+    @Test
+    public void testReadsLines() throws IOException
+    {
+        try (Stream<?> stream = read("{\"name\":\"a\",\"count\":1}\n\n{\"name\":\"b\",\"count\":2}\n"))
+        {
+            assertThat(stream.collect(Collectors.<Object>toList())).containsExactly(new Element("a", 1),
+                new Element("b", 2));
+        }
+    }
+
+    @Test
+    public void testReadsLastLineWithoutSeparator() throws IOException
+    {
+        try (Stream<?> stream = read("{\"name\":\"a\",\"count\":1}\r\n{\"name\":\"b\",\"count\":2}"))
+        {
+            assertThat(stream.count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void testReadsEmptyBodyAsEmptyStream() throws IOException
+    {
+        try (Stream<?> stream = read(""))
+        {
+            assertThat(stream).isEmpty();
+        }
+    }
+
+    @Test
+    public void testReportsMalformedLines() throws IOException
+    {
+        try (Stream<?> stream = read("{\"name\":\"a\",\"count\":1}\n{\"name\":}\n"))
+        {
+            Iterator<?> iterator = stream.iterator();
+            assertThat(iterator.next()).isEqualTo(new Element("a", 1));
+            assertThatThrownBy(iterator::next).isInstanceOf(JsonSyntaxException.class);
+        }
+    }
+
+    private Stream<?> read(String ndjson) throws IOException
+    {
+        return reader.readFrom(null,
+            ELEMENT_STREAM_TYPE,
+            null,
+            null,
+            null,
+            new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.mizool.technology.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import lombok.AllArgsConstructor;
+
+import org.testng.annotations.Test;
+
+import com.google.gson.GsonBuilder;
+
+public class TestNdjsonStreamWriter
+{
+    @AllArgsConstructor
+    private static class Element
+    {
+        private String name;
+        private List<Integer> values;
+    }
+
+    /**
+     * Records the output on each flush.
+     */
+    private static class FlushRecordingStream extends ByteArrayOutputStream
+    {
+        private final List<String> flushes = new ArrayList<>();
+
+        @Override
+        public void flush()
+        {
+            flushes.add(toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testWritesOneCompactValuePerLine() throws IOException
+    {
+        GsonWrapper gson = new GsonWrapper(new GsonBuilder().setPrettyPrinting()
+            .create());
+        NdjsonStreamWriter writer = new NdjsonStreamWriter(gson, FlushPolicy.NEVER);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.writeTo(Stream.of(new Element("a", List.of(1, 2)), "b", 3), Stream.class, null, null, null, null, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"a\",\"values\":[1,2]}\n\"b\"\n3\n");
+    }
+
+    @Test
+    public void testWritesEmptyStream() throws IOException
+    {
+        NdjsonStreamWriter writer = new NdjsonStreamWriter(new GsonWrapper(new GsonBuilder().create()),
+            FlushPolicy.NEVER);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.writeTo(Stream.empty(), Stream.class, null, null, null, null, out);
+
+        assertThat(out.size()).isZero();
+    }
+
+    @Test
+    public void testFlushesEachLine() throws IOException
+    {
+        NdjsonStreamWriter writer = new NdjsonStreamWriter(new GsonWrapper(new GsonBuilder().create()),
+            new FlushPolicy(1, null));
+        FlushRecordingStream out = new FlushRecordingStream();
+
+        writer.writeTo(Stream.of(1, 2, 3), Stream.class, null, null, null, null, out);
+
+        assertThat(out.flushes).startsWith("1\n", "1\n2\n", "1\n2\n3\n");
+    }
+}
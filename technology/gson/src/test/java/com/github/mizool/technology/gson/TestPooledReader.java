@@ -0,0 +1,88 @@
+package com.github.mizool.technology.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class TestPooledReader
+{
+    private static final String TEXT = "{\"name\":\"Grüße aus Köln 😀\"," +
+        "\"tags\":[\"€\",\"𝄞\",\"plain ascii text\"]}";
+
+    @DataProvider
+    public Object[][] expectedLengths()
+    {
+        return new Object[][]{
+            { -1 },
+            { TEXT.getBytes(StandardCharsets.UTF_8).length },
+            { 3 },
+            { 1000 }
+        };
+    }
+
+    @Test(dataProvider = "expectedLengths")
+    public void testReadsMultiByteCharactersAcrossBufferBoundaries(int expectedLength) throws IOException
+    {
+        for (int chunkSize = 1; chunkSize <= 20; chunkSize++)
+        {
+            try (Reader reader = createReader(expectedLength))
+            {
+                assertThat(readAll(reader, chunkSize)).isEqualTo(TEXT);
+            }
+        }
+    }
+
+    @Test
+    public void testReadsSingleCharacters() throws IOException
+    {
+        StringBuilder result = new StringBuilder();
+        try (Reader reader = createReader(-1))
+        {
+            int c;
+            while ((c = reader.read()) != -1)
+            {
+                result.append((char) c);
+            }
+        }
+        assertThat(result.toString()).isEqualTo(TEXT);
+    }
+
+    @Test
+    public void testReusesBuffer() throws IOException
+    {
+        BufferPool bufferPool = new BufferPool(16);
+        byte[] buffer = bufferPool.takeBytes(0);
+        bufferPool.returnBytes(buffer);
+
+        new PooledReader(new ByteArrayInputStream(new byte[0]), StandardCharsets.UTF_8, bufferPool, -1).close();
+
+        assertThat(bufferPool.takeBytes(0)).isSameAs(buffer);
+    }
+
+    private Reader createReader(int expectedLength)
+    {
+        return new PooledReader(new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.UTF_8)),
+            StandardCharsets.UTF_8,
+            new BufferPool(16),
+            expectedLength);
+    }
+
+    private String readAll(Reader reader, int chunkSize) throws IOException
+    {
+        StringWriter result = new StringWriter();
+        char[] buffer = new char[chunkSize];
+        int count;
+        while ((count = reader.read(buffer, 0, chunkSize)) != -1)
+        {
+            result.write(buffer, 0, count);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.mizool.technology.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.testng.annotations.Test;
+
+public class TestPooledWriter
+{
+    private static final String TEXT = "{\"name\":\"Grüße aus Köln 😀\"," +
+        "\"tags\":[\"€\",\"𝄞\",\"plain ascii text\"]}";
+
+    @Test
+    public void testWritesMultiByteCharactersAcrossBufferBoundaries() throws IOException
+    {
+        for (int chunkSize = 1; chunkSize <= 20; chunkSize++)
+        {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (Writer writer = new PooledWriter(out, StandardCharsets.UTF_8, new BufferPool(16)))
+            {
+                for (int position = 0; position < TEXT.length(); position += chunkSize)
+                {
+                    writer.write(TEXT, position, Math.min(chunkSize, TEXT.length() - position));
+                }
+            }
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(TEXT);
+        }
+    }
+
+    @Test
+    public void testWritesSingleCharacters() throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer writer = new PooledWriter(out, StandardCharsets.UTF_8, new BufferPool(16)))
+        {
+            for (char c : TEXT.toCharArray())
+            {
+                writer.write(c);
+            }
+        }
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(TEXT);
+    }
+
+    @Test
+    public void testFlushWritesBufferedCharacters() throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Writer writer = new PooledWriter(out, StandardCharsets.UTF_8, new BufferPool(16));
+        writer.write("Köln");
+        assertThat(out.size()).isZero();
+
+        writer.flush();
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("Köln");
+    }
+
+    @Test
+    public void testReusesBuffers() throws IOException
+    {
+        BufferPool bufferPool = new BufferPool(16);
+        char[] chars = bufferPool.takeChars();
+        byte[] bytes = bufferPool.takeBytes(0);
+        bufferPool.returnChars(chars);
+        bufferPool.returnBytes(bytes);
+
+        new PooledWriter(new ByteArrayOutputStream(), StandardCharsets.UTF_8, bufferPool).close();
+
+        assertThat(bufferPool.takeChars()).isSameAs(chars);
+        assertThat(bufferPool.takeBytes(0)).isSameAs(bytes);
+    }
+}
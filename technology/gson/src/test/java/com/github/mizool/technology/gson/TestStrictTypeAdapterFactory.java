@@ -0,0 +1,217 @@
+package com.github.mizool.technology.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.mizool.core.exception.BadRequestException;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+public class TestStrictTypeAdapterFactory
+{
+    private Gson gson;
+
+    @BeforeMethod
+    public void configure()
+    {
+        gson = new GsonBuilder().registerTypeAdapterFactory(new StrictTypeAdapterFactory())
+            .create();
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class TestJsonObject
+    {
+        private String content;
+        private String moreContent;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class TestContainer
+    {
+        private int count;
+        private List<TestJsonObject> children;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class TestPrimitive
+    {
+        private int count;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class TestRenamed
+    {
+        @SerializedName(value = "display_name", alternate = "name")
+        private String displayName;
+
+        private transient String cached;
+    }
+
+    @NoArgsConstructor
+    @EqualsAndHashCode(callSuper = true)
+    private static class TestSubclass extends TestJsonObject
+    {
+        private String extra;
+
+        TestSubclass(String content, String extra)
+        {
+            super(content, null);
+            this.extra = extra;
+        }
+    }
+
+    private static class TestRegistered
+    {
+        private String content;
+    }
+
+    private static class TestRegisteredTypeAdapter extends TypeAdapter<TestRegistered>
+    {
+        @Override
+        public void write(JsonWriter out, TestRegistered value) throws IOException
+        {
+            out.value(value.content);
+        }
+
+        @Override
+        public TestRegistered read(JsonReader in) throws IOException
+        {
+            TestRegistered result = new TestRegistered();
+            result.content = in.nextString();
+            return result;
+        }
+    }
+
+    @Test
+    public void testDeserializeWithAllParameters()
+    {
+        String inputJson = "{\"content\":\"test\",\"moreContent\":\"data\"}";
+        TestJsonObject result = gson.fromJson(inputJson, TestJsonObject.class);
+        assertThat(result).isEqualTo(new TestJsonObject("test", "data"));
+    }
+
+    @Test
+    public void testDeserializeWithMissingParameters()
+    {
+        String inputJson = "{\"content\":\"test\"}";
+        TestJsonObject result = gson.fromJson(inputJson, TestJsonObject.class);
+        assertThat(result).isEqualTo(new TestJsonObject("test", null));
+    }
+
+    @Test
+    public void testDeserializeWithTooManyParameters()
+    {
+        String inputJson = "{\"content\":\"test\",\"moreContent\":\"data\", \"tooMany\":\"parameters\"}";
+        assertThatThrownBy(() -> gson.fromJson(inputJson, TestJsonObject.class)).isInstanceOf(BadRequestException.class)
+            .hasMessage(TestJsonObject.class.getName() + " has no field named tooMany");
+    }
+
+    @Test
+    public void testDeserializeNested()
+    {
+        String inputJson = "{\"count\":1,\"children\":[{\"content\":\"test\"}]}";
+        TestContainer result = gson.fromJson(inputJson, TestContainer.class);
+        assertThat(result).isEqualTo(new TestContainer(1, List.of(new TestJsonObject("test", null))));
+    }
+
+    @Test
+    public void testDeserializeNestedWithTooManyParameters()
+    {
+        String inputJson = "{\"count\":1,\"children\":[{\"content\":\"test\",\"tooMany\":\"parameters\"}]}";
+        assertThatThrownBy(() -> gson.fromJson(inputJson, TestContainer.class)).isInstanceOf(BadRequestException.class)
+            .hasRootCauseInstanceOf(BadRequestException.class)
+            .hasRootCauseMessage(TestJsonObject.class.getName() + " has no field named tooMany");
+    }
+
+    @Test
+    public void testDeserializeNull()
+    {
+        assertThat(gson.fromJson("null", TestJsonObject.class)).isNull();
+    }
+
+    @Test
+    public void testSerializeUnchanged()
+    {
+        String result = gson.toJson(new TestContainer(1, List.of(new TestJsonObject("test", null))));
+        assertThat(result).isEqualTo("{\"count\":1,\"children\":[{\"content\":\"test\"}]}");
+    }
+
+    @Test
+    public void testDeserializeNullForPrimitive()
+    {
+        assertThatThrownBy(() -> gson.fromJson("{\"count\":null}", TestPrimitive.class)).isInstanceOf(
+            BadRequestException.class);
+    }
+
+    @Test
+    public void testRoundTripWithSerializedName()
+    {
+        TestRenamed renamed = new TestRenamed("Jane", null);
+
+        String json = gson.toJson(renamed);
+
+        assertThat(json).isEqualTo("{\"display_name\":\"Jane\"}");
+        assertThat(gson.fromJson(json, TestRenamed.class)).isEqualTo(renamed);
+    }
+
+    @Test
+    public void testDeserializeAlternateName()
+    {
+        assertThat(gson.fromJson("{\"name\":\"Jane\"}", TestRenamed.class)).isEqualTo(new TestRenamed("Jane", null));
+    }
+
+    @Test
+    public void testDeserializeJavaFieldNameOfRenamedField()
+    {
+        assertThatThrownBy(() -> gson.fromJson("{\"displayName\":\"Jane\"}", TestRenamed.class)).isInstanceOf(
+            BadRequestException.class).hasMessage(TestRenamed.class.getName() + " has no field named displayName");
+    }
+
+    @Test
+    public void testDeserializeTransientField()
+    {
+        assertThatThrownBy(() -> gson.fromJson("{\"cached\":\"x\"}", TestRenamed.class)).isInstanceOf(
+            BadRequestException.class).hasMessage(TestRenamed.class.getName() + " has no field named cached");
+    }
+
+    @Test
+    public void testRoundTripWithInheritedFields()
+    {
+        TestSubclass subclass = new TestSubclass("test", "more");
+
+        assertThat(gson.fromJson(gson.toJson(subclass), TestSubclass.class)).isEqualTo(subclass);
+    }
+
+    @Test
+    public void testRegisteredTypeAdapterIsNotShadowed()
+    {
+        Gson gsonWithAdapter = new GsonBuilder().registerTypeAdapter(TestRegistered.class,
+                new TestRegisteredTypeAdapter())
+            .registerTypeAdapterFactory(new StrictTypeAdapterFactory())
+            .create();
+
+        assertThat(gsonWithAdapter.fromJson("\"test\"", TestRegistered.class).content).isEqualTo("test");
+    }
+}
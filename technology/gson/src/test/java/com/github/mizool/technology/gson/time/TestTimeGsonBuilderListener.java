@@ -0,0 +1,91 @@
+package com.github.mizool.technology.gson.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.mizool.core.exception.BadRequestException;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+public class TestTimeGsonBuilderListener
+{
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class Timestamps
+    {
+        private ZonedDateTime zonedDateTime;
+        private Instant instant;
+        private LocalDate localDate;
+        private LocalDateTime localDateTime;
+        private LocalTime localTime;
+    }
+
+    private static final String JSON = "{\"zonedDateTime\":\"2018-01-01T10:00:00.000+01:00\"," +
+        "\"instant\":\"2018-01-01T09:00:00.123Z\"," +
+        "\"localDate\":\"2018-01-01\"," +
+        "\"localDateTime\":\"2018-01-01T10:00:00\"," +
+        "\"localTime\":\"10:00:00.5\"}";
+
+    private static final Timestamps TIMESTAMPS = new Timestamps(ZonedDateTime.parse("2018-01-01T10:00:00+01:00"),
+        Instant.parse("2018-01-01T09:00:00.123Z"),
+        LocalDate.of(2018, 1, 1),
+        LocalDateTime.of(2018, 1, 1, 10, 0),
+        LocalTime.of(10, 0, 0, 500_000_000));
+
+    private Gson gson;
+
+    @BeforeMethod
+    public void setUp()
+    {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        new TimeGsonBuilderListener().onTypeAdapterRegistration(gsonBuilder);
+        gson = gsonBuilder.create();
+    }
+
+    @Test
+    public void testSerializes()
+    {
+        assertThat(gson.toJson(TIMESTAMPS)).isEqualTo(JSON);
+    }
+
+    @Test
+    public void testDeserializes()
+    {
+        assertThat(gson.fromJson(JSON, Timestamps.class)).isEqualTo(TIMESTAMPS);
+    }
+
+    @Test
+    public void testDeserializesInstantWithOffset()
+    {
+        assertThat(gson.fromJson("\"2018-01-01T10:00:00.123+01:00\"", Instant.class)).isEqualTo(
+            Instant.parse("2018-01-01T09:00:00.123Z"));
+    }
+
+    @Test
+    public void testHandlesNulls()
+    {
+        assertThat(gson.toJson(new Timestamps())).isEqualTo("{}");
+        assertThat(gson.fromJson("{\"localDate\":null}", Timestamps.class)).isEqualTo(new Timestamps());
+    }
+
+    @Test
+    public void testRejectsInvalidLocalDate()
+    {
+        assertThatThrownBy(() -> gson.fromJson("\"2018-13-01\"", LocalDate.class)).isInstanceOf(
+            BadRequestException.class);
+    }
+}
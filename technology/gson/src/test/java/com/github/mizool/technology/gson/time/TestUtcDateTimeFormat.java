@@ -0,0 +1,86 @@
+package com.github.mizool.technology.gson.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.github.mizool.core.rest.time.RestDateTimeFormat;
+
+public class TestUtcDateTimeFormat
+{
+    private static final long SEED = 4711;
+    private static final int SAMPLES = 10_000;
+    private static final long MAX_EPOCH_SECOND = 253402300799L;
+
+    @Test
+    public void testFormatsLikeFormatter()
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < SAMPLES; i++)
+        {
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(random.nextLong(0, MAX_EPOCH_SECOND),
+                random.nextInt(1_000_000_000),
+                ZoneOffset.UTC);
+
+            String expected = RestDateTimeFormat.SERIALIZATION.format(dateTime.atZone(ZoneOffset.UTC));
+            assertThat(UtcDateTimeFormat.format(dateTime)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testParsesWhatItFormats()
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < SAMPLES; i++)
+        {
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(random.nextLong(0, MAX_EPOCH_SECOND),
+                random.nextInt(1000) * 1_000_000,
+                ZoneOffset.UTC);
+
+            assertThat(UtcDateTimeFormat.parse(UtcDateTimeFormat.format(dateTime))).isEqualTo(dateTime);
+        }
+    }
+
+    @Test
+    public void testLeavesFiveDigitYearsToFormatter()
+    {
+        assertThat(UtcDateTimeFormat.format(LocalDateTime.of(10000, 1, 1, 0, 0))).isNull();
+    }
+
+    @DataProvider
+    private Object[][] fallbackVariants()
+    {
+        return new Object[][]{
+            { "offset", "2018-01-01T00:00:00+01:00" },
+            { "lowercase zulu", "2018-01-01T00:00:00z" },
+            { "empty fraction", "2018-01-01T00:00:00.Z" },
+            { "too long fraction", "2018-01-01T00:00:00.0000000001Z" },
+            { "no seconds", "2018-01-01T00:00Z" },
+            { "non-digit", "2018-0a-01T00:00:00Z" },
+            { "invalid day", "2018-02-30T00:00:00Z" },
+            { "gibberish", "gibberish" }
+        };
+    }
+
+    @Test(dataProvider = "fallbackVariants")
+    public void testLeavesOtherFormatsToFormatter(String name, String text)
+    {
+        assertThat(UtcDateTimeFormat.parse(text)).isNull();
+    }
+
+    @Test
+    public void testParsesLikeFormatter()
+    {
+        String text = "2018-01-01T12:34:56.789123Z";
+
+        ZonedDateTime expected = ZonedDateTime.parse(text, RestDateTimeFormat.DESERIALIZATION);
+        assertThat(UtcDateTimeFormat.parse(text)
+            .atZone(ZoneOffset.UTC)).isEqualTo(expected);
+    }
+}
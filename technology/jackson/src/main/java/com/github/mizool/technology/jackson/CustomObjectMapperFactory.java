@@ -1,5 +1,11 @@
 package com.github.mizool.technology.jackson;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+import java.util.stream.Stream;
+
 import lombok.experimental.UtilityClass;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -8,10 +14,20 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.github.mizool.core.configuration.Config;
+import com.github.mizool.core.configuration.PropertyNode;
+import com.google.common.reflect.ClassPath;
 
 @UtilityClass
 class CustomObjectMapperFactory
 {
+    private enum Profile
+    {
+        DEFAULT,
+        PERFORMANCE
+    }
+
     public ObjectMapper create()
     {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -23,4 +39,96 @@ class CustomObjectMapperFactory
         objectMapper.registerModule(new Jdk8Module());
         return objectMapper;
     }
+
+    /**
+     * Like {@link #create()}, but writes compact output and accesses properties via generated lambdas instead of
+     * reflection.
+     */
+    public ObjectMapper createForPerformance()
+    {
+        ObjectMapper objectMapper = create();
+        objectMapper.disable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.registerModule(new BlackbirdModule());
+        return objectMapper;
+    }
+
+    /**
+     * Creates the mapper for the profile set in the system property
+     * {@code com.github.mizool.technology.jackson.CustomObjectMapperFactory.profile}: {@code default} (the default)
+     * for {@link #create()}, or {@code performance} for {@link #createForPerformance()}.<br>
+     * <br>
+     * With the {@code performance} profile, the serializers and deserializers of the classes in the packages listed
+     * in {@code com.github.mizool.technology.jackson.CustomObjectMapperFactory.prewarmPackages} (comma separated,
+     * including subpackages) are created right away instead of on the first request.
+     */
+    public ObjectMapper createConfigured()
+    {
+        PropertyNode config = Config.systemProperties()
+            .child(CustomObjectMapperFactory.class.getName());
+        Profile profile = config.child("profile")
+            .convertedValue(value -> Profile.valueOf(value.toUpperCase(Locale.ROOT)))
+            .read()
+            .orElse(Profile.DEFAULT);
+        if (profile == Profile.DEFAULT)
+        {
+            return create();
+        }
+
+        ObjectMapper objectMapper = createForPerformance();
+        config.child("prewarmPackages")
+            .stringsValue()
+            .read()
+            .orElse(Stream.empty())
+            .forEach(packageName -> prewarm(objectMapper, packageName));
+        return objectMapper;
+    }
+
+    /**
+     * Creates the serializers and deserializers of all concrete top level classes in the given package and its
+     * subpackages, as seen by the thread context class loader. Classes that cannot be loaded are skipped.
+     */
+    void prewarm(ObjectMapper objectMapper, String packageName)
+    {
+        ClassLoader classLoader = Thread.currentThread()
+            .getContextClassLoader();
+        if (classLoader == null)
+        {
+            classLoader = CustomObjectMapperFactory.class.getClassLoader();
+        }
+        try
+        {
+            for (ClassPath.ClassInfo classInfo : ClassPath.from(classLoader)
+                .getTopLevelClassesRecursive(packageName))
+            {
+                Class<?> type = load(classInfo);
+                if (type != null && isPrewarmable(type))
+                {
+                    // Both fetch the root value (de)serializer eagerly, which populates the caches of the mapper
+                    objectMapper.writerFor(type);
+                    objectMapper.readerFor(type);
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Class<?> load(ClassPath.ClassInfo classInfo)
+    {
+        try
+        {
+            return classInfo.load();
+        }
+        catch (LinkageError e)
+        {
+            return null;
+        }
+    }
+
+    private boolean isPrewarmable(Class<?> type)
+    {
+        return !type.isInterface() && !type.isAnnotation() && !Modifier.isAbstract(type.getModifiers());
+    }
 }
@@ -13,6 +13,6 @@ public class CustomObjectMapperModule extends AbstractModule
     protected void configure()
     {
         super.configure();
-        bind(ObjectMapper.class).toInstance(CustomObjectMapperFactory.create());
+        bind(ObjectMapper.class).toInstance(CustomObjectMapperFactory.createConfigured());
     }
 }
@@ -11,6 +11,6 @@ public class CustomObjectMapperProducer
     @Singleton
     public ObjectMapper produce()
     {
-        return CustomObjectMapperFactory.create();
+        return CustomObjectMapperFactory.createConfigured();
     }
 }
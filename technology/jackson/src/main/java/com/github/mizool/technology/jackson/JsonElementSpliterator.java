@@ -0,0 +1,152 @@
+package com.github.mizool.technology.jackson;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import lombok.SneakyThrows;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Parses elements lazily, either from a JSON array or from a sequence of root level values such as newline delimited
+ * JSON. The parser is closed once all elements have been read, an error occurred or the stream is closed. The
+ * exceptions of Jackson are thrown unchanged.
+ */
+class JsonElementSpliterator extends Spliterators.AbstractSpliterator<Object>
+{
+    private final JsonParser parser;
+    private final ObjectReader elementReader;
+    private final boolean array;
+    private boolean done;
+
+    private JsonElementSpliterator(JsonParser parser, ObjectReader elementReader, boolean array)
+    {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.parser = parser;
+        this.elementReader = elementReader;
+        this.array = array;
+    }
+
+    /**
+     * Reads the elements of a JSON array. An empty document or {@code null} yields no elements.
+     *
+     * @throws JsonParseException if the document does not start with an array
+     */
+    public static Stream<Object> streamArray(JsonParser parser, ObjectReader elementReader) throws IOException
+    {
+        return stream(new JsonElementSpliterator(parser, elementReader, true));
+    }
+
+    /**
+     * Reads root level values separated by whitespace such as line breaks.
+     */
+    public static Stream<Object> streamValues(JsonParser parser, ObjectReader elementReader) throws IOException
+    {
+        return stream(new JsonElementSpliterator(parser, elementReader, false));
+    }
+
+    private static Stream<Object> stream(JsonElementSpliterator spliterator) throws IOException
+    {
+        try
+        {
+            spliterator.begin();
+        }
+        catch (IOException | RuntimeException e)
+        {
+            spliterator.parser.close();
+            throw e;
+        }
+        return StreamSupport.stream(spliterator, false)
+            .onClose(spliterator::close);
+    }
+
+    private void begin() throws IOException
+    {
+        if (!array)
+        {
+            return;
+        }
+
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.VALUE_NULL)
+        {
+            finish();
+        }
+        else if (token != JsonToken.START_ARRAY)
+        {
+            throw new JsonParseException(parser, "Expected a JSON array, but found " + token);
+        }
+    }
+
+    @Override
+    @SneakyThrows(IOException.class)
+    public boolean tryAdvance(Consumer<? super Object> action)
+    {
+        if (done)
+        {
+            return false;
+        }
+
+        Object element;
+        try
+        {
+            if (!hasNext())
+            {
+                finish();
+                return false;
+            }
+            element = elementReader.readValue(parser);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            finish();
+            throw e;
+        }
+        action.accept(element);
+        return true;
+    }
+
+    /**
+     * Advances to the next element, if any.
+     */
+    private boolean hasNext() throws IOException
+    {
+        JsonToken token = parser.nextToken();
+        if (!array)
+        {
+            return token != null;
+        }
+
+        if (token == null)
+        {
+            throw new JsonParseException(parser, "Unexpected end of input, expected ']'");
+        }
+        return token != JsonToken.END_ARRAY;
+    }
+
+    private void finish()
+    {
+        done = true;
+        close();
+    }
+
+    private void close()
+    {
+        try
+        {
+            parser.close();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
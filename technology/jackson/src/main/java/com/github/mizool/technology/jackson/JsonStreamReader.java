@@ -0,0 +1,74 @@
+package com.github.mizool.technology.jackson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.stream.Stream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Provider;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Reads JSON arrays into streams which parse the array elements lazily, so that arbitrarily large arrays can be
+ * processed with constant memory. The element type is taken from the generic type of the parameter, e.g.
+ * {@code Stream<ImportRecordDto>}. An empty body or {@code null} yields an empty stream.<br>
+ * <br>
+ * Errors in the opening bracket are reported when reading the entity, those in the elements while consuming the
+ * stream. The exceptions of Jackson are thrown unchanged, so that they are handled by
+ * {@link com.github.mizool.technology.jackson.behavior.JsonParseExceptionBehavior} and its siblings.
+ */
+@Provider
+@Consumes(MediaType.APPLICATION_JSON)
+@RequiredArgsConstructor(onConstructor = @__(@Inject), access = AccessLevel.PROTECTED)
+public class JsonStreamReader implements MessageBodyReader<Stream<?>>
+{
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+    {
+        return Stream.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public Stream<?> readFrom(
+        Class<Stream<?>> type,
+        Type genericType,
+        Annotation[] annotations,
+        MediaType mediaType,
+        MultivaluedMap<String, String> httpHeaders,
+        InputStream entityStream) throws IOException, WebApplicationException
+    {
+        ObjectReader elementReader = objectMapper.readerFor(objectMapper.getTypeFactory()
+            .constructType(getElementType(genericType)));
+        JsonParser parser = objectMapper.createParser(entityStream);
+
+        return JsonElementSpliterator.streamArray(parser, elementReader);
+    }
+
+    /**
+     * @return the type argument of the given {@code Stream} type, or {@code Object} for the raw type
+     */
+    static Type getElementType(Type genericType)
+    {
+        if (genericType instanceof ParameterizedType)
+        {
+            return ((ParameterizedType) genericType).getActualTypeArguments()[0];
+        }
+        return Object.class;
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.mizool.technology.jackson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.stream.Stream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Provider;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Reads newline delimited JSON into streams which parse the values lazily, so that arbitrarily many values can be
+ * processed with constant memory. The element type is taken from the generic type of the parameter, e.g.
+ * {@code Stream<ImportRecordDto>}. Blank lines are ignored.<br>
+ * <br>
+ * Errors are reported while consuming the stream. The exceptions of Jackson are thrown unchanged, so that they are
+ * handled by {@link com.github.mizool.technology.jackson.behavior.JsonParseExceptionBehavior} and its siblings.
+ */
+@Provider
+@Consumes(NdjsonStreamWriter.MEDIA_TYPE)
+@RequiredArgsConstructor(onConstructor = @__(@Inject), access = AccessLevel.PROTECTED)
+public class NdjsonStreamReader implements MessageBodyReader<Stream<?>>
+{
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+    {
+        return Stream.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public Stream<?> readFrom(
+        Class<Stream<?>> type,
+        Type genericType,
+        Annotation[] annotations,
+        MediaType mediaType,
+        MultivaluedMap<String, String> httpHeaders,
+        InputStream entityStream) throws IOException, WebApplicationException
+    {
+        ObjectReader elementReader = objectMapper.readerFor(objectMapper.getTypeFactory()
+            .constructType(JsonStreamReader.getElementType(genericType)));
+        JsonParser parser = objectMapper.createParser(entityStream);
+
+        return JsonElementSpliterator.streamValues(parser, elementReader);
+    }
+}
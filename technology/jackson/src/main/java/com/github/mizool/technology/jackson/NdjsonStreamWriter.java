@@ -0,0 +1,121 @@
+package com.github.mizool.technology.jackson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.mizool.core.configuration.Config;
+import com.github.mizool.core.configuration.PropertyNode;
+
+/**
+ * Writes streams as newline delimited JSON, i.e. one compact JSON value per line, which clients can process line by
+ * line.<br>
+ * <br>
+ * By default, each line is flushed. To flush in batches, set the system property
+ * {@code com.github.mizool.technology.jackson.NdjsonStreamWriter.flushEvery} to a number of elements and/or
+ * {@code com.github.mizool.technology.jackson.NdjsonStreamWriter.flushInterval} to a readable duration such as
+ * {@code 500 millis}. A value of {@code 0} for {@code flushEvery} without an interval only flushes when the buffer is
+ * full.
+ */
+@Provider
+@Produces(NdjsonStreamWriter.MEDIA_TYPE)
+@RequiredArgsConstructor(onConstructor = @__(@Inject), access = AccessLevel.PROTECTED)
+public class NdjsonStreamWriter implements MessageBodyWriter<Stream<?>>
+{
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private static final char LINE_SEPARATOR = '\n';
+
+    private static final PropertyNode CONFIG = Config.systemProperties()
+        .child(NdjsonStreamWriter.class.getName());
+    private static final int FLUSH_EVERY = CONFIG.child("flushEvery")
+        .intValue()
+        .read()
+        .orElse(1);
+    private static final Duration FLUSH_INTERVAL = CONFIG.child("flushInterval")
+        .readableDuration()
+        .read()
+        .orElse(null);
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+    {
+        return Stream.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public long getSize(
+        Stream<?> stream, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+    {
+        return -1;
+    }
+
+    @Override
+    public void writeTo(
+        Stream<?> stream,
+        Class<?> type,
+        Type genericType,
+        Annotation[] annotations,
+        MediaType mediaType,
+        MultivaluedMap<String, Object> httpHeaders,
+        OutputStream entityStream) throws IOException, WebApplicationException
+    {
+        // Each value must fit on one line, and flushing is up to us
+        ObjectWriter elementWriter = objectMapper.writer()
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory()
+            .createGenerator(entityStream, JsonEncoding.UTF8); Stream<?> streamToClose = stream)
+        {
+            // We write the separator ourselves, so that the last line is terminated as well
+            generator.setRootValueSeparator(null);
+
+            int unflushed = 0;
+            long lastFlushNanos = System.nanoTime();
+            Iterator<?> iterator = streamToClose.iterator();
+            while (iterator.hasNext())
+            {
+                elementWriter.writeValue(generator, iterator.next());
+                generator.writeRaw(LINE_SEPARATOR);
+
+                unflushed++;
+                long now = System.nanoTime();
+                if (isFlushDue(unflushed, now - lastFlushNanos))
+                {
+                    generator.flush();
+                    unflushed = 0;
+                    lastFlushNanos = now;
+                }
+            }
+        }
+    }
+
+    private static boolean isFlushDue(int unflushed, long nanosSinceLastFlush)
+    {
+        return FLUSH_EVERY > 0 && unflushed >= FLUSH_EVERY ||
+            FLUSH_INTERVAL != null && nanosSinceLastFlush >= FLUSH_INTERVAL.toNanos();
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.mizool.technology.jackson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.github.mizool.core.exception.ConfigurationException;
+
+public class TestCustomObjectMapperFactory
+{
+    private static final String PROFILE_PROPERTY = CustomObjectMapperFactory.class.getName() + ".profile";
+    private static final String PREWARM_PACKAGES_PROPERTY =
+        CustomObjectMapperFactory.class.getName() + ".prewarmPackages";
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pojo
+    {
+        private String name;
+        private ZonedDateTime timestamp;
+    }
+
+    @AfterMethod
+    public void tearDown()
+    {
+        System.clearProperty(PROFILE_PROPERTY);
+        System.clearProperty(PREWARM_PACKAGES_PROPERTY);
+    }
+
+    @Test
+    public void testUsesDefaultProfileByDefault()
+    {
+        ObjectMapper objectMapper = CustomObjectMapperFactory.createConfigured();
+
+        assertThat(objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)).isTrue();
+        assertThat(objectMapper.getRegisteredModuleIds()).doesNotContain(new BlackbirdModule().getTypeId());
+    }
+
+    @Test
+    public void testUsesPerformanceProfile()
+    {
+        System.setProperty(PROFILE_PROPERTY, "performance");
+        System.setProperty(PREWARM_PACKAGES_PROPERTY, "com.github.mizool.technology.jackson.behavior");
+
+        ObjectMapper objectMapper = CustomObjectMapperFactory.createConfigured();
+
+        assertThat(objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)).isFalse();
+        assertThat(objectMapper.getRegisteredModuleIds()).contains(new BlackbirdModule().getTypeId());
+    }
+
+    @Test
+    public void testRejectsUnknownProfile()
+    {
+        System.setProperty(PROFILE_PROPERTY, "fast");
+
+        assertThatThrownBy(CustomObjectMapperFactory::createConfigured).isInstanceOf(ConfigurationException.class);
+    }
+
+    @Test
+    public void testPerformanceProfileWritesCompactOutput() throws IOException
+    {
+        ObjectMapper objectMapper = CustomObjectMapperFactory.createForPerformance();
+        Pojo pojo = new Pojo("a", ZonedDateTime.parse("2018-01-01T00:00:00Z"));
+
+        String json = objectMapper.writeValueAsString(pojo);
+
+        assertThat(json).isEqualTo("{\"name\":\"a\",\"timestamp\":\"2018-01-01T00:00:00Z\"}");
+        assertThat(objectMapper.readValue(json, Pojo.class)).isEqualTo(pojo);
+    }
+
+    @Test
+    public void testPrewarmsSerializers()
+    {
+        ObjectMapper objectMapper = CustomObjectMapperFactory.createForPerformance();
+        DefaultSerializerProvider serializerProvider = (DefaultSerializerProvider) objectMapper.getSerializerProvider();
+        int cachedBefore = serializerProvider.cachedSerializersCount();
+
+        CustomObjectMapperFactory.prewarm(objectMapper, TestCustomObjectMapperFactory.class.getPackageName());
+
+        assertThat(serializerProvider.cachedSerializersCount()).isGreaterThan(cachedBefore);
+    }
+}
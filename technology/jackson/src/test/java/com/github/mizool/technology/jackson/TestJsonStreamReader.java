@@ -0,0 +1,168 @@
+package com.github.mizool.technology.jackson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+
+public class TestJsonStreamReader
+{
+    private static final Type POJO_STREAM_TYPE = new TypeReference<Stream<Pojo>>()
+    {
+    }.getType();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class Pojo
+    {
+        private String name;
+        private int count;
+    }
+
+    private JsonStreamReader reader;
+
+    @BeforeMethod
+    public void setUp()
+    {
+        reader = new JsonStreamReader(CustomObjectMapperFactory.create());
+    }
+
+    @Test
+    public void testReadsElements() throws IOException
+    {
+        try (Stream<?> stream = read("[{\"name\":\"a\",\"count\":1},{\"name\":\"b\",\"count\":2}]"))
+        {
+            assertThat(stream.collect(Collectors.<Object>toList())).containsExactly(new Pojo("a", 1),
+                new Pojo("b", 2));
+        }
+    }
+
+    @Test
+    public void testReadsLazily() throws IOException
+    {
+        try (Stream<?> stream = read("[{\"name\":\"a\",\"count\":1},{\"name\":\"b\",\"count\":\"not a number\"}]"))
+        {
+            Iterator<?> iterator = stream.iterator();
+            assertThat(iterator.next()).isEqualTo(new Pojo("a", 1));
+            assertThatThrownBy(iterator::next).isInstanceOf(InvalidFormatException.class);
+        }
+    }
+
+    @Test
+    public void testReportsUnknownProperties() throws IOException
+    {
+        try (Stream<?> stream = read("[{\"name\":\"a\",\"unknown\":1}]"))
+        {
+            assertThatThrownBy(() -> stream.collect(Collectors.toList())).isInstanceOf(
+                UnrecognizedPropertyException.class);
+        }
+    }
+
+    @Test
+    public void testReadsEmptyBodyAsEmptyStream() throws IOException
+    {
+        try (Stream<?> stream = read(""))
+        {
+            assertThat(stream).isEmpty();
+        }
+    }
+
+    @Test
+    public void testReadsNullAsEmptyStream() throws IOException
+    {
+        try (Stream<?> stream = read("null"))
+        {
+            assertThat(stream).isEmpty();
+        }
+    }
+
+    @Test
+    public void testRejectsNonArray()
+    {
+        assertThatThrownBy(() -> read("{\"name\":\"a\"}")).isInstanceOf(JsonParseException.class);
+    }
+
+    @Test
+    public void testReportsMalformedElements() throws IOException
+    {
+        try (Stream<?> stream = read("[{\"name\":\"a\",\"count\":1},{\"name\":}]"))
+        {
+            Iterator<?> iterator = stream.iterator();
+            assertThat(iterator.next()).isEqualTo(new Pojo("a", 1));
+            assertThatThrownBy(iterator::next).isInstanceOf(JsonParseException.class);
+        }
+    }
+
+    @Test
+    public void testReportsTruncatedArray() throws IOException
+    {
+        try (Stream<?> stream = read("[{\"name\":\"a\",\"count\":1}"))
+        {
+            assertThatThrownBy(() -> stream.collect(Collectors.toList())).isInstanceOf(JsonParseException.class);
+        }
+    }
+
+    @Test
+    public void testClosesEntityStream() throws IOException
+    {
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream entityStream = new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8))
+        {
+            @Override
+            public void close()
+            {
+                closed.set(true);
+            }
+        };
+
+        reader.readFrom(null, POJO_STREAM_TYPE, null, null, null, entityStream)
+            .close();
+
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void testReadsRawStreamAsObjects() throws IOException
+    {
+        List<Object> result = reader.readFrom(null,
+                Stream.class,
+                null,
+                null,
+                null,
+                new ByteArrayInputStream("[1,\"a\"]".getBytes(StandardCharsets.UTF_8)))
+            .collect(Collectors.<Object>toList());
+        assertThat(result).containsExactly(1, "a");
+    }
+
+    private Stream<?> read(String json) throws IOException
+    {
+        return reader.readFrom(null,
+            POJO_STREAM_TYPE,
+            null,
+            null,
+            null,
+            new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
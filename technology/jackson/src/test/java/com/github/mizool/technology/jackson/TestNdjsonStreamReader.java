@@ -0,0 +1,96 @@
+package com.github.mizool.technology.jackson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+public class TestNdjsonStreamReader
+{
+    private static final Type POJO_STREAM_TYPE = new TypeReference<Stream<Pojo>>()
+    {
+    }.getType();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class Pojo
+    {
+        private String name;
+        private int count;
+    }
+
+    private NdjsonStreamReader reader;
+
+    @BeforeMethod
+    public void setUp()
+    {
+        reader = new NdjsonStreamReader(CustomObjectMapperFactory.create());
+    }
+
+    @Test
+    public void testReadsLines() throws IOException
+    {
+        try (Stream<?> stream = read("{\"name\":\"a\",\"count\":1}\n\n{\"name\":\"b\",\"count\":2}\n"))
+        {
+            assertThat(stream.collect(Collectors.<Object>toList())).containsExactly(new Pojo("a", 1),
+                new Pojo("b", 2));
+        }
+    }
+
+    @Test
+    public void testReadsCrlfWithoutTrailingLineBreak() throws IOException
+    {
+        try (Stream<?> stream = read("{\"name\":\"a\",\"count\":1}\r\n{\"name\":\"b\",\"count\":2}"))
+        {
+            assertThat(stream.collect(Collectors.<Object>toList())).containsExactly(new Pojo("a", 1),
+                new Pojo("b", 2));
+        }
+    }
+
+    @Test
+    public void testReadsEmptyBodyAsEmptyStream() throws IOException
+    {
+        try (Stream<?> stream = read(""))
+        {
+            assertThat(stream).isEmpty();
+        }
+    }
+
+    @Test
+    public void testReportsMalformedLine() throws IOException
+    {
+        try (Stream<?> stream = read("{\"name\":\"a\",\"count\":1}\n{\"name\":}\n"))
+        {
+            Iterator<?> iterator = stream.iterator();
+            assertThat(iterator.next()).isEqualTo(new Pojo("a", 1));
+            assertThatThrownBy(iterator::next).isInstanceOf(JsonParseException.class);
+        }
+    }
+
+    private Stream<?> read(String json) throws IOException
+    {
+        return reader.readFrom(null,
+            POJO_STREAM_TYPE,
+            null,
+            null,
+            null,
+            new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
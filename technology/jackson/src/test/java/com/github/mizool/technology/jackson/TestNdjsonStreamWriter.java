@@ -0,0 +1,86 @@
+package com.github.mizool.technology.jackson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class TestNdjsonStreamWriter
+{
+    @Data
+    @AllArgsConstructor
+    private static class Pojo
+    {
+        private String name;
+        private int count;
+    }
+
+    private NdjsonStreamWriter writer;
+
+    @BeforeMethod
+    public void setUp()
+    {
+        writer = new NdjsonStreamWriter(CustomObjectMapperFactory.create());
+    }
+
+    @Test
+    public void testWritesOneCompactValuePerLine() throws IOException
+    {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        writer.writeTo(Stream.of(new Pojo("a", 1), new Pojo("b", 2)), null, null, null, null, null, outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "{\"name\":\"a\",\"count\":1}\n{\"name\":\"b\",\"count\":2}\n");
+    }
+
+    @Test
+    public void testWritesEmptyStream() throws IOException
+    {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        writer.writeTo(Stream.empty(), null, null, null, null, null, outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEmpty();
+    }
+
+    @Test
+    public void testFlushesEachLine() throws IOException
+    {
+        List<String> flushed = new ArrayList<>();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream()
+        {
+            @Override
+            public void flush()
+            {
+                flushed.add(toString(StandardCharsets.UTF_8));
+            }
+        };
+
+        writer.writeTo(Stream.of(1, 2), null, null, null, null, null, outputStream);
+
+        assertThat(flushed).startsWith("1\n", "1\n2\n");
+    }
+
+    @Test
+    public void testClosesStream() throws IOException
+    {
+        AtomicBoolean closed = new AtomicBoolean();
+
+        writer.writeTo(Stream.of(1)
+            .onClose(() -> closed.set(true)), null, null, null, null, null, new ByteArrayOutputStream());
+
+        assertThat(closed).isTrue();
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.mizool.technology.web.healthcheck;
+
+import java.util.function.BooleanSupplier;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reports success if the given condition holds, e.g. for readiness conditions like a finished cache warm-up.
+ */
+@RequiredArgsConstructor
+public class ConditionCheck implements Check
+{
+    private final String name;
+    private final BooleanSupplier condition;
+    private final String failureMessage;
+
+    @Override
+    public CheckResult perform()
+    {
+        CheckResult.CheckResultBuilder resultBuilder = CheckResult.builder().name(name);
+
+        if (condition.getAsBoolean())
+        {
+            resultBuilder = resultBuilder.success(true).message("OK");
+        }
+        else
+        {
+            resultBuilder = resultBuilder.success(false).message(failureMessage);
+        }
+
+        return resultBuilder.build();
+    }
+}
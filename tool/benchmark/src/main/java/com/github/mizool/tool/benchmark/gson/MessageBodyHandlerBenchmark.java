@@ -0,0 +1,151 @@
+package com.github.mizool.tool.benchmark.gson;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import lombok.NoArgsConstructor;
+
+import com.github.mizool.technology.gson.GsonMessageBodyHandler;
+import com.github.mizool.technology.gson.GsonWrapper;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the allocation rate and throughput of {@link GsonMessageBodyHandler} ({@code handler}) with plain
+ * {@link InputStreamReader} and {@link OutputStreamWriter} instances ({@code plain}) for payloads of different sizes.
+ * The {@code handler} reads with a {@code Content-Length} header.<br>
+ * <br>
+ * Run {@link #main(String[])}, which enables the GC profiler, or e.g.
+ * {@code java -jar target/benchmarks.jar MessageBodyHandlerBenchmark -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageBodyHandlerBenchmark
+{
+    private static final Type ITEMS_TYPE = new TypeToken<List<Item>>()
+    {
+    }.getType();
+
+    @NoArgsConstructor
+    public static class Item
+    {
+        private String id;
+        private String description;
+        private long amount;
+    }
+
+    @Param({ "plain", "handler" })
+    public String target;
+
+    @Param({ "10", "1000" })
+    public int itemCount;
+
+    private Gson gson;
+    private GsonMessageBodyHandler handler;
+    private List<Item> items;
+    private byte[] json;
+    private MultivaluedMap<String, String> requestHeaders;
+    private ByteArrayOutputStream out;
+
+    public static void main(String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(MessageBodyHandlerBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .build()).run();
+    }
+
+    @Setup
+    public void setUp()
+    {
+        gson = new Gson();
+        handler = new GsonMessageBodyHandler(new GsonWrapper(gson));
+
+        items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++)
+        {
+            Item item = new Item();
+            item.id = "item-" + i;
+            item.description = "Größe " + i + ", Farbe: grün";
+            item.amount = i * 1000L;
+            items.add(item);
+        }
+        json = gson.toJson(items, ITEMS_TYPE)
+            .getBytes(StandardCharsets.UTF_8);
+
+        requestHeaders = new MultivaluedHashMap<>();
+        requestHeaders.putSingle(HttpHeaders.CONTENT_LENGTH, String.valueOf(json.length));
+        out = new ByteArrayOutputStream(json.length * 2);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object read() throws IOException
+    {
+        ByteArrayInputStream in = new ByteArrayInputStream(json);
+        if (target.equals("handler"))
+        {
+            return handler.readFrom((Class<Object>) (Class<?>) List.class,
+                ITEMS_TYPE,
+                null,
+                MediaType.APPLICATION_JSON_TYPE,
+                requestHeaders,
+                in);
+        }
+
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+        {
+            return gson.fromJson(reader, ITEMS_TYPE);
+        }
+    }
+
+    @Benchmark
+    public int write() throws IOException
+    {
+        out.reset();
+        if (target.equals("handler"))
+        {
+            handler.writeTo(items, List.class, ITEMS_TYPE, null, MediaType.APPLICATION_JSON_TYPE, null, out);
+        }
+        else
+        {
+            try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+            {
+                gson.toJson(items, ITEMS_TYPE, writer);
+            }
+        }
+        return out.size();
+    }
+}
@@ -0,0 +1,160 @@
+package com.github.mizool.tool.benchmark.gson;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import com.github.mizool.technology.gson.AbstractTypeAdapter;
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the field handling of {@link AbstractTypeAdapter} ({@code adapter}) with the reflective adapter built into
+ * Gson ({@code gson}) for an order DTO with nested line DTOs, in both directions.<br>
+ * <br>
+ * Run {@link #main(String[])} or e.g. {@code java -jar target/benchmarks.jar TypeAdapterBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeAdapterBenchmark
+{
+    private static final int LINE_COUNT = 10;
+
+    @NoArgsConstructor
+    @Getter
+    public static class Order
+    {
+        private String id;
+        private String customer;
+        private long createdMillis;
+        private boolean paid;
+        private List<OrderLine> lines;
+        private transient String internalNote;
+    }
+
+    @NoArgsConstructor
+    @Getter
+    public static class OrderLine
+    {
+        private int position;
+        private String article;
+        private int quantity;
+        private double price;
+        private String internalNote;
+    }
+
+    private static class InternalNoteExclusionStrategy implements ExclusionStrategy
+    {
+        @Override
+        public boolean shouldSkipField(FieldAttributes f)
+        {
+            return f.getName()
+                .equals("internalNote");
+        }
+
+        @Override
+        public boolean shouldSkipClass(Class<?> clazz)
+        {
+            return false;
+        }
+    }
+
+    private static class OrderTypeAdapter extends AbstractTypeAdapter<Order>
+    {
+        OrderTypeAdapter()
+        {
+            super(new InternalNoteExclusionStrategy());
+        }
+    }
+
+    private static class OrderLineTypeAdapter extends AbstractTypeAdapter<OrderLine>
+    {
+        OrderLineTypeAdapter()
+        {
+            super(new InternalNoteExclusionStrategy());
+        }
+    }
+
+    @Param({ "gson", "adapter" })
+    public String target;
+
+    private Gson gson;
+    private Order order;
+    private String json;
+
+    public static void main(String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(TypeAdapterBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+    @Setup
+    public void setUp()
+    {
+        GsonBuilder builder = new GsonBuilder();
+        if (target.equals("adapter"))
+        {
+            builder.registerTypeAdapter(Order.class, new OrderTypeAdapter())
+                .registerTypeAdapter(OrderLine.class, new OrderLineTypeAdapter());
+        }
+        else
+        {
+            builder.setExclusionStrategies(new InternalNoteExclusionStrategy());
+        }
+        gson = builder.create();
+
+        order = new Order();
+        order.id = "4711";
+        order.customer = "ACME Corporation";
+        order.createdMillis = 1_500_000_000_000L;
+        order.paid = true;
+        order.internalNote = "call before delivery";
+        order.lines = new ArrayList<>();
+        for (int position = 1; position <= LINE_COUNT; position++)
+        {
+            OrderLine line = new OrderLine();
+            line.position = position;
+            line.article = "article-" + position;
+            line.quantity = position * 3;
+            line.price = position * 9.95;
+            line.internalNote = "discounted";
+            order.lines.add(line);
+        }
+        json = gson.toJson(order);
+    }
+
+    @Benchmark
+    public String serialize()
+    {
+        return gson.toJson(order);
+    }
+
+    @Benchmark
+    public Order deserialize()
+    {
+        return gson.fromJson(json, Order.class);
+    }
+}
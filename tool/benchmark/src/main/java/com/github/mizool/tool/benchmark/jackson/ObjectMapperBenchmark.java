@@ -0,0 +1,126 @@
+package com.github.mizool.tool.benchmark.jackson;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mizool.technology.jackson.CustomObjectMapperProducer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the {@code default} and {@code performance} profiles of the mapper produced by
+ * {@link CustomObjectMapperProducer} for an order DTO with nested line DTOs, in both directions.<br>
+ * <br>
+ * Run {@link #main(String[])} or e.g. {@code java -jar target/benchmarks.jar ObjectMapperBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectMapperBenchmark
+{
+    private static final String PROFILE_PROPERTY =
+        "com.github.mizool.technology.jackson.CustomObjectMapperFactory.profile";
+    private static final int LINE_COUNT = 10;
+
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class Order
+    {
+        private String id;
+        private String customer;
+        private ZonedDateTime created;
+        private boolean paid;
+        private List<OrderLine> lines;
+    }
+
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class OrderLine
+    {
+        private int position;
+        private String article;
+        private int quantity;
+        private double price;
+    }
+
+    @Param({ "default", "performance" })
+    public String profile;
+
+    private ObjectMapper objectMapper;
+    private Order order;
+    private byte[] json;
+
+    public static void main(String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(ObjectMapperBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        System.setProperty(PROFILE_PROPERTY, profile);
+        try
+        {
+            objectMapper = new CustomObjectMapperProducer().produce();
+        }
+        finally
+        {
+            System.clearProperty(PROFILE_PROPERTY);
+        }
+
+        order = new Order();
+        order.id = "4711";
+        order.customer = "ACME Corporation";
+        order.created = ZonedDateTime.parse("2017-07-14T02:40:00Z");
+        order.paid = true;
+        order.lines = new ArrayList<>();
+        for (int position = 1; position <= LINE_COUNT; position++)
+        {
+            OrderLine line = new OrderLine();
+            line.position = position;
+            line.article = "article-" + position;
+            line.quantity = position * 3;
+            line.price = position * 9.95;
+            order.lines.add(line);
+        }
+        json = objectMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException
+    {
+        return objectMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public Order deserialize() throws IOException
+    {
+        return objectMapper.readValue(json, Order.class);
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.mizool.tool.benchmark.jcache;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+
+import com.github.mizool.technology.jcache.codec.CodecCacheManager;
+import com.github.mizool.technology.jcache.config.ConfigurableCacheManager;
+import com.github.mizool.technology.jcache.snapshot.SnapshotCacheManager;
+import com.github.mizool.technology.jcache.timeouting.TimeoutingCacheManager;
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the overhead of the decorator stack of {@code technology-cache} by running the same operations through the
+ * {@link CacheManager} produced by CDI ({@code stack}) and directly against the caching provider ({@code provider}).
+ * Both use the JSR-107 reference implementation.<br>
+ * <br>
+ * Run {@link #main(String[])} to compare 1, 4 and 16 threads, or run a single thread count with e.g.
+ * {@code java -jar target/benchmarks.jar CacheStackBenchmark -t 8}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheStackBenchmark
+{
+    private static final String CACHE_NAME = "benchmark";
+    private static final int KEY_COUNT = 10000;
+    private static final int BATCH_SIZE = 16;
+    private static final int BATCH_COUNT = 256;
+    private static final int[] THREAD_COUNTS = { 1, 4, 16 };
+
+    /**
+     * The producer is package-private, so we cannot refer to its class directly.
+     */
+    private static final String PRODUCER_CLASS_NAME = "com.github.mizool.technology.jcache.safe.CacheManagerProducer";
+
+    @Param({ "provider", "stack" })
+    public String target;
+
+    private WeldContainer container;
+    private CacheManager cacheManager;
+    private Cache<Integer, String> cache;
+    private Set<Integer>[] batches;
+
+    public static void main(String[] args) throws RunnerException
+    {
+        for (int threads : THREAD_COUNTS)
+        {
+            new Runner(new OptionsBuilder().include(CacheStackBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build()).run();
+        }
+    }
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws ClassNotFoundException
+    {
+        if (target.equals("stack"))
+        {
+            // Bean discovery would pick up unrelated beans from other modules, so we only add those of the stack
+            container = new Weld().disableDiscovery()
+                .setBeanDiscoveryMode(BeanDiscoveryMode.ALL)
+                .addPackages(false,
+                    Class.forName(PRODUCER_CLASS_NAME),
+                    ConfigurableCacheManager.class,
+                    CodecCacheManager.class,
+                    SnapshotCacheManager.class,
+                    TimeoutingCacheManager.class)
+                .initialize();
+            cacheManager = container.select(CacheManager.class)
+                .get();
+        }
+        else
+        {
+            cacheManager = Caching.getCachingProvider()
+                .getCacheManager();
+        }
+
+        cache = cacheManager.createCache(CACHE_NAME, new MutableConfiguration<>());
+        for (int key = 0; key < KEY_COUNT; key++)
+        {
+            cache.put(key, "value-" + key);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        batches = new Set[BATCH_COUNT];
+        for (int i = 0; i < BATCH_COUNT; i++)
+        {
+            batches[i] = new HashSet<>();
+            while (batches[i].size() < BATCH_SIZE)
+            {
+                batches[i].add(random.nextInt(KEY_COUNT));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        cacheManager.destroyCache(CACHE_NAME);
+        if (container != null)
+        {
+            container.shutdown();
+        }
+        else
+        {
+            cacheManager.close();
+        }
+    }
+
+    @Benchmark
+    public String get()
+    {
+        return cache.get(randomKey());
+    }
+
+    @Benchmark
+    public void put()
+    {
+        int key = randomKey();
+        cache.put(key, "value-" + key);
+    }
+
+    @Benchmark
+    public Map<Integer, String> getAll()
+    {
+        return cache.getAll(batches[ThreadLocalRandom.current()
+            .nextInt(BATCH_COUNT)]);
+    }
+
+    private static int randomKey()
+    {
+        return ThreadLocalRandom.current()
+            .nextInt(KEY_COUNT);
+    }
+}